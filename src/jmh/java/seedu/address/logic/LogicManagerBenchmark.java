@@ -0,0 +1,155 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks {@code LogicManager#execute} end to end, from parsing the command to saving the data file.
+ * Commands that change the address book are paired with the command that undoes them, so that every
+ * invocation starts from the same data; the score of such a benchmark covers both commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogicManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    private Path tempDirectory;
+    private LogicManager logic;
+
+    private String firstName;
+    private int lessonCount;
+    private int assignedTaskIndex;
+    private int unassignedTaskIndex;
+
+    /**
+     * Sets up a {@code LogicManager} that saves to a temporary directory, and looks up the indexes that the
+     * commands below use on the first student in the list.
+     */
+    @Setup
+    public void setUp() throws IOException, CommandException, ParseException {
+        tempDirectory = Files.createTempDirectory("benchmark");
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(tempDirectory.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(tempDirectory.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(BenchmarkAddressBooks.withPersons(personCount), new UserPrefs()),
+                storage);
+
+        Person person = logic.getFilteredPersonList().get(0);
+        List<Task> tasks = logic.getFilteredTaskList();
+        firstName = person.getName().fullName.split(" ")[0];
+        lessonCount = person.getLessons().size();
+        for (int index = tasks.size(); index >= 1; index--) {
+            if (person.getAssignedTaskIds().contains(tasks.get(index - 1).getId())) {
+                assignedTaskIndex = index;
+            } else {
+                unassignedTaskIndex = index;
+            }
+        }
+        if (assignedTaskIndex == 0) {
+            // the student has no tasks, so give them the first one and leave the second for assignAndUnassignTask
+            logic.execute("task -as 1 1");
+            assignedTaskIndex = 1;
+            unassignedTaskIndex = 2;
+        }
+    }
+
+    /**
+     * Deletes the temporary directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(file -> file.delete());
+        }
+    }
+
+    @Benchmark
+    public CommandResult listAll() throws CommandException, ParseException {
+        return logic.execute("list");
+    }
+
+    @Benchmark
+    public CommandResult viewStudent() throws CommandException, ParseException {
+        return logic.execute("student -v 1");
+    }
+
+    @Benchmark
+    public CommandResult findStudent() throws CommandException, ParseException {
+        return logic.execute("student -f " + firstName);
+    }
+
+    @Benchmark
+    public CommandResult editStudent() throws CommandException, ParseException {
+        return logic.execute("student -e 1 p/91234567");
+    }
+
+    @Benchmark
+    public CommandResult addAndDeleteStudent() throws CommandException, ParseException {
+        logic.execute("student -a n/New Student p/98765432 e/new@example.com a/311, Clementi Ave 2, #02-25");
+        return logic.execute("student -d " + (personCount + 1));
+    }
+
+    @Benchmark
+    public CommandResult addAndDeleteLesson() throws CommandException, ParseException {
+        logic.execute("student -al 1 s/Physics st/22:00 et/23:00 d/Sun");
+        return logic.execute("student -dl 1 " + (lessonCount + 1));
+    }
+
+    @Benchmark
+    public CommandResult assignAndUnassignTask() throws CommandException, ParseException {
+        logic.execute("task -as 1 " + unassignedTaskIndex);
+        return logic.execute("task -unas 1 " + unassignedTaskIndex);
+    }
+
+    @Benchmark
+    public CommandResult markTaskDoneAndUndone() throws CommandException, ParseException {
+        logic.execute("task -do 1 " + assignedTaskIndex);
+        return logic.execute("task -undo 1 " + assignedTaskIndex);
+    }
+
+    @Benchmark
+    public CommandResult viewGroup() throws CommandException, ParseException {
+        return logic.execute("group -v 1");
+    }
+
+    @Benchmark
+    public CommandResult schedule() throws CommandException, ParseException {
+        return logic.execute("schedule");
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonDirectoryAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks {@code undo} followed by {@code redo} through {@code LogicManager#execute}, end to end, after a change
+ * to the first student that either leaves the schedule as it is (a new phone number) or changes it (a new lesson).
+ * <p>
+ * With the single json file, each command saves the whole address book, so its time grows with the number of
+ * students whatever the step. With a directory of json files, only the changed student is saved again, which leaves
+ * the cost of undoing and redoing the step itself, and of rebuilding the schedule if the step changed it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UndoCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    @Param({"json", "directory"})
+    private String storageKind;
+
+    @Param({"phone", "lesson"})
+    private String change;
+
+    private Path tempDirectory;
+    private LogicManager logic;
+
+    /**
+     * Sets up a {@code LogicManager} whose latest command changed the first student.
+     */
+    @Setup
+    public void setUp() throws IOException, CommandException, ParseException {
+        tempDirectory = Files.createTempDirectory("benchmark");
+        AddressBookStorage addressBookStorage = storageKind.equals("json")
+                ? new JsonAddressBookStorage(tempDirectory.resolve("addressBook.json"))
+                : new JsonDirectoryAddressBookStorage(tempDirectory.resolve("addressBook"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(tempDirectory.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(BenchmarkAddressBooks.withPersons(personCount), new UserPrefs()),
+                storage);
+
+        // no generated lesson ends later than 21:00, so the new lesson never overlaps
+        logic.execute(change.equals("phone")
+                ? "student -e 1 p/91234567"
+                : "student -al 1 s/Physics st/22:00 et/23:00 d/Sun");
+    }
+
+    /**
+     * Deletes the temporary directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(file -> file.delete());
+        }
+    }
+
+    @Benchmark
+    public CommandResult undoAndRedo() throws CommandException, ParseException {
+        logic.execute("undo");
+        return logic.execute("redo");
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.LessonWithAttendees;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks exporting the schedule to an iCalendar file, against building the sorted list of lessons that the
+ * schedule view shows. Run with {@code -prof gc} to compare how much each allocates: the export writes each event as
+ * it goes, while the sorted list holds every lesson at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportScheduleCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    private ModelManager model;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        model = new ModelManager(BenchmarkAddressBooks.withPersons(personCount), new UserPrefs());
+        file = Files.createTempFile("schedule", ".ics");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public CommandResult exportSchedule() throws CommandException {
+        return new ExportScheduleCommand(file).execute(model);
+    }
+
+    @Benchmark
+    public List<LessonWithAttendees> sortedLessonsWithAttendees() {
+        return model.getAddressBook().getSortedLessonsWithAttendees();
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.persons.ImportPersonsCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks importing a CSV file of {@code rowCount} new students into an address book that already has
+ * {@code personCount} students. One row in a hundred repeats an earlier row, so the duplicate check is exercised too.
+ * The model is rebuilt before each invocation, which is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportPersonsCommandBenchmark {
+
+    @Param({"1000", "100000"})
+    private int personCount;
+
+    @Param({"50000"})
+    private int rowCount;
+
+    private AddressBook addressBook;
+    private Path file;
+    private ModelManager model;
+
+    /**
+     * Writes the CSV file once for the whole trial.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkAddressBooks.withPersons(personCount);
+        file = Files.createTempFile("students", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("name,phone,email,address,tags\n");
+            for (int i = 0; i < rowCount; i++) {
+                int student = i % 100 == 99 ? i - 1 : i;
+                writer.write(String.format("Imported Student %d,9%07d,imported%d@example.com,"
+                        + "\"Block %d, Import Street\",imported\n", student, student, student, student));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpModel() {
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public CommandResult importPersons() throws CommandException {
+        return new ImportPersonsCommand(file).execute(model);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks {@code AddressBookParser#parseCommand} for one command of each type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "student -a n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 t/friends",
+        "student -e 1 p/91234567 e/johndoe@example.com",
+        "student -d 1",
+        "student -v 1",
+        "student -f alice bob charlie",
+        "student -al 1 s/Biology st/08:00 et/09:00 d/Mon",
+        "student -ae 1 s/Math d/2021-12-20 14:00",
+        "group -a 1 3 5 n/Team2",
+        "group -al 1 s/Biology st/08:00 et/09:00 d/Mon",
+        "task -a n/CS2100 Lab 1 d/2021-10-10",
+        "task -e 4 d/2021-12-31",
+        "task -f lab submission",
+        "task -as 2 4",
+        "task -do 2 4",
+        "list",
+        "schedule"
+    })
+    private String commandText;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
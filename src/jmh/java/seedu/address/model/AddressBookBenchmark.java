@@ -0,0 +1,127 @@
+package seedu.address.model;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.id.UniqueId;
+import seedu.address.model.lesson.LessonWithAttendees;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonWithDetails;
+import seedu.address.testutil.BenchmarkAddressBooks;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Benchmarks the lookups and updates on {@code AddressBook} that every command goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookBenchmark {
+
+    private static final int LOOKUP_COUNT = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    private AddressBook addressBook;
+    private Person newPerson;
+    private Person lastPerson;
+    private Set<UniqueId> personIds;
+    private Person viewedPerson;
+    private Person otherPerson;
+
+    /**
+     * Builds the address book and picks the persons to look up, spread evenly over the list.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkAddressBooks.withPersons(personCount);
+        newPerson = new PersonBuilder().withName("New Student").build();
+
+        List<Person> persons = addressBook.getPersonList();
+        lastPerson = persons.get(persons.size() - 1);
+        personIds = new HashSet<>();
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            personIds.add(persons.get(i * persons.size() / LOOKUP_COUNT).getId());
+        }
+        viewedPerson = persons.stream().filter(person -> !person.getAssignedGroupIds().isEmpty()).findFirst().get();
+        otherPerson = persons.get(persons.size() / 2);
+    }
+
+    /**
+     * Adds a person and removes it again, so that every invocation sees an address book of the same size.
+     */
+    @Benchmark
+    public AddressBook addAndRemovePerson() {
+        addressBook.addPerson(newPerson);
+        addressBook.removePerson(newPerson);
+        return addressBook;
+    }
+
+    @Benchmark
+    public boolean hasPerson_present() {
+        return addressBook.hasPerson(lastPerson);
+    }
+
+    @Benchmark
+    public boolean hasPerson_absent() {
+        return addressBook.hasPerson(newPerson);
+    }
+
+    @Benchmark
+    public Set<Person> getFromUniqueIds() {
+        return addressBook.getPersonMapper().getFromUniqueIds(personIds);
+    }
+
+    @Benchmark
+    public List<LessonWithAttendees> getSortedLessonsWithAttendees() {
+        return addressBook.getSortedLessonsWithAttendees();
+    }
+
+    /**
+     * Views the same student again, as the student panel does after a command that changed none of its details.
+     */
+    @Benchmark
+    public PersonWithDetails getPersonWithDetails_unchanged() {
+        return addressBook.getPersonWithDetails(viewedPerson);
+    }
+
+    /**
+     * Edits a student outside the viewed student's groups and views the student again.
+     */
+    @Benchmark
+    public PersonWithDetails getPersonWithDetails_afterUnrelatedEdit() {
+        Person edited = otherPerson.updateAssignedTaskIds(otherPerson.getAssignedTaskIds());
+        addressBook.setPerson(otherPerson, edited);
+        otherPerson = edited;
+        return addressBook.getPersonWithDetails(viewedPerson);
+    }
+
+    /**
+     * Edits the viewed student, so that its details have to be made again.
+     */
+    @Benchmark
+    public PersonWithDetails getPersonWithDetails_afterEdit() {
+        Person edited = viewedPerson.updateAssignedTaskIds(viewedPerson.getAssignedTaskIds());
+        addressBook.setPerson(viewedPerson, edited);
+        viewedPerson = edited;
+        return addressBook.getPersonWithDetails(viewedPerson);
+    }
+}
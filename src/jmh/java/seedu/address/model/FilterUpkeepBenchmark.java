@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks keeping the filtered person list up to date while a filter is in use. Besides the time taken, it
+ * counts how many times the filter is tested against a student.
+ * <p>
+ * {@code editKeepingFilter} is what an edit costs now that the filter stays in place. {@code editThenRefilter} is
+ * what it cost when the edit cleared the filter and the user had to find the students again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterUpkeepBenchmark {
+
+    @Param({"10000"})
+    private int personCount;
+
+    // Counted across all instances of the filter, as finding the same students again makes a new one.
+    private static long filterTestCount;
+
+    private ModelManager model;
+    private CountingPredicate filter;
+    private Person editedPerson;
+
+    /**
+     * Counts the tests of the filter during each invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FilterTests {
+        public long filterTests;
+    }
+
+    /**
+     * Sets up a model whose person list is filtered by the first name of its first student.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkAddressBooks.withPersons(personCount), new UserPrefs());
+        Person firstPerson = model.getAddressBook().getPersonList().get(0);
+        String firstName = firstPerson.getName().fullName.split("\\s+")[0];
+        filter = new CountingPredicate(new NameContainsKeywordsPredicate(List.of(firstName)));
+        model.updateFilteredPersonList(filter);
+        editedPerson = model.getAddressBook().getPersonList().get(personCount / 2);
+    }
+
+    @Benchmark
+    public Model editKeepingFilter(FilterTests counters) {
+        long testsBefore = filterTestCount;
+        editPerson();
+        counters.filterTests += filterTestCount - testsBefore;
+        return model;
+    }
+
+    @Benchmark
+    public Model editThenRefilter(FilterTests counters) {
+        long testsBefore = filterTestCount;
+        editPerson();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredPersonList(filter);
+        counters.filterTests += filterTestCount - testsBefore;
+        return model;
+    }
+
+    @Benchmark
+    public Model findSameStudentsAgain(FilterTests counters) {
+        long testsBefore = filterTestCount;
+        model.updateFilteredPersonList(new CountingPredicate(filter.predicate));
+        counters.filterTests += filterTestCount - testsBefore;
+        return model;
+    }
+
+    /**
+     * Replaces a student in the middle of the list with an equal copy of itself, so each invocation sees the same data.
+     */
+    private void editPerson() {
+        Person copy = editedPerson.updateAssignedTaskIds(editedPerson.getAssignedTaskIds());
+        model.setPerson(editedPerson, copy);
+        editedPerson = copy;
+    }
+
+    /**
+     * A filter that counts how often it is tested in {@code filterTestCount}, and is equal to any other that
+     * filters the same way.
+     */
+    private static class CountingPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+
+        CountingPredicate(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            filterTestCount++;
+            return predicate.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof CountingPredicate
+                    && predicate.equals(((CountingPredicate) other).predicate));
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.hashCode();
+        }
+    }
+}
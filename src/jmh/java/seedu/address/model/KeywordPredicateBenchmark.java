@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupNameContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks testing every student, task and group against the predicates of {@code student -f}, {@code task -f}
+ * and the group search, as a {@code find} does. {@code splitNamePerTest} matches the students the way the predicates
+ * used to, splitting and comparing each name on every test, for comparison. Run with {@code -prof gc} to see how
+ * much each allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordPredicateBenchmark {
+
+    private static final List<String> KEYWORDS = Arrays.asList("alex", "Tan", "lab", "TEAM", "zzz");
+
+    @Param({"100000"})
+    private int personCount;
+
+    private List<Person> persons;
+    private List<Task> tasks;
+    private List<Group> groups;
+
+    private NameContainsKeywordsPredicate personPredicate;
+    private TaskNameContainsKeywordsPredicate taskPredicate;
+    private GroupNameContainsKeywordsPredicate groupPredicate;
+
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = BenchmarkAddressBooks.withPersons(personCount);
+        persons = addressBook.getPersonList();
+        tasks = addressBook.getTaskList();
+        groups = addressBook.getGroupList();
+        personPredicate = new NameContainsKeywordsPredicate(KEYWORDS);
+        taskPredicate = new TaskNameContainsKeywordsPredicate(KEYWORDS);
+        groupPredicate = new GroupNameContainsKeywordsPredicate(KEYWORDS);
+    }
+
+    @Benchmark
+    public int findPersons() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (personPredicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int findTasks() {
+        int matches = 0;
+        for (Task task : tasks) {
+            if (taskPredicate.test(task)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int findGroups() {
+        int matches = 0;
+        for (Group group : groups) {
+            if (groupPredicate.test(group)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int splitNamePerTest() {
+        int matches = 0;
+        for (Person person : persons) {
+            String fullName = person.getName().fullName;
+            if (KEYWORDS.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(fullName, keyword))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
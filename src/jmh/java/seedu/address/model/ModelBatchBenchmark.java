@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks a change to every student and group, as {@code DeleteTaskCommand} makes, with and without
+ * {@link Model#beginBatch() batching}. Besides the time taken, it counts how many times the listeners of the
+ * filtered lists shown by the UI are called, which is how many times the UI would lay itself out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ModelBatchBenchmark {
+
+    @Param({"1000", "10000"})
+    private int personCount;
+
+    @Param({"false", "true"})
+    private boolean isBatched;
+
+    private ModelManager model;
+    private long listenerCalls;
+
+    /**
+     * Counts the calls to the listeners of the filtered person and group lists during each invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ListenerCalls {
+        public long filteredListChanges;
+    }
+
+    /**
+     * Sets up a model whose filtered lists count the changes they send.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkAddressBooks.withPersons(personCount), new UserPrefs());
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> listenerCalls++);
+        model.getFilteredGroupList().addListener((ListChangeListener<Group>) change -> listenerCalls++);
+    }
+
+    /**
+     * Replaces every student and group with an equal copy of itself, so each invocation starts from the same data.
+     */
+    @Benchmark
+    public Model replaceAllPersonsAndGroups(ListenerCalls counters) {
+        long callsBefore = listenerCalls;
+        if (isBatched) {
+            model.beginBatch();
+        }
+        try {
+            for (Person person : new ArrayList<>(model.getAddressBook().getPersonList())) {
+                model.setPerson(person, person.updateAssignedTaskIds(person.getAssignedTaskIds()));
+            }
+            for (Group group : new ArrayList<>(model.getAddressBook().getGroupList())) {
+                model.setGroup(group, group.updateAssignedTaskIds(group.getAssignedTaskIds()));
+            }
+        } finally {
+            if (isBatched) {
+                model.endBatch();
+            }
+        }
+        counters.filteredListChanges += listenerCalls - callsBefore;
+        return model;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BenchmarkAddressBooks;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Benchmarks making the next version of the student list for a snapshot, after a command has edited, added or
+ * deleted one student, against copying the whole list as a snapshot would otherwise have to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    private List<Person> persons;
+    private PersistentList<Person> personsVersion;
+    private List<Person> editedPerson;
+
+    /**
+     * Builds the student list, and an edited version of the student in the middle of it.
+     */
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(BenchmarkAddressBooks.withPersons(personCount).getPersonList());
+        personsVersion = PersistentList.copyOf(persons);
+        editedPerson = List.of(new PersonBuilder(persons.get(personCount / 2)).withPhone("99999999").build());
+    }
+
+    @Benchmark
+    public List<Person> editOne() {
+        return personsVersion.splice(personCount / 2, 1, editedPerson);
+    }
+
+    @Benchmark
+    public List<Person> addOne() {
+        return personsVersion.splice(personCount, 0, editedPerson);
+    }
+
+    @Benchmark
+    public List<Person> deleteOne() {
+        return personsVersion.splice(personCount / 2, 1, List.of());
+    }
+
+    @Benchmark
+    public List<Person> copyAll() {
+        return List.copyOf(persons);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks undoing and redoing an edit of one student, against copying the whole address book, which is what
+ * saving each step as a copy would cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UndoRedoBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    private ModelManager model;
+
+    /**
+     * Sets up a model whose latest step edited the student in the middle of the list.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkAddressBooks.withPersons(personCount), new UserPrefs());
+        Person person = model.getAddressBook().getPersonList().get(personCount / 2);
+        model.setPerson(person, person.updateAssignedTaskIds(person.getAssignedTaskIds()));
+        model.commitAddressBook();
+    }
+
+    @Benchmark
+    public Model undoAndRedo() {
+        model.undoAddressBook();
+        model.redoAddressBook();
+        return model;
+    }
+
+    @Benchmark
+    public AddressBook copyAddressBook() {
+        return new AddressBook(model.getAddressBook());
+    }
+}
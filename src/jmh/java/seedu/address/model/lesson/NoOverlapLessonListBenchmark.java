@@ -0,0 +1,63 @@
+package seedu.address.model.lesson;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.lesson.exceptions.OverlappingLessonsException;
+import seedu.address.testutil.LessonBuilder;
+
+/**
+ * Benchmarks adding a lesson to a {@code NoOverlapLessonList} that already holds {@code lessonCount} lessons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoOverlapLessonListBenchmark {
+
+    private static final int LESSONS_PER_DAY = 24;
+    private static final int LESSON_LENGTH_IN_MINUTES = 30;
+
+    @Param({"1", "10", "100"})
+    private int lessonCount;
+
+    private NoOverlapLessonList lessonsList;
+    private Lesson newLesson;
+
+    /**
+     * Fills the list with back to back half hour lessons from Monday morning onwards.
+     */
+    @Setup
+    public void setUp() {
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < lessonCount; i++) {
+            LocalTime start = LocalTime.of(8, 0).plusMinutes(LESSON_LENGTH_IN_MINUTES * (i % LESSONS_PER_DAY));
+            LocalTime end = start.plusMinutes(LESSON_LENGTH_IN_MINUTES);
+            lessons.add(new LessonBuilder().withTimeslot(start.toString(), end.toString())
+                    .withDayOfWeek(1 + i / LESSONS_PER_DAY).build());
+        }
+        lessonsList = NoOverlapLessonList.ofTrusted(lessons);
+        newLesson = new LessonBuilder().withTimeslot("23:00", "23:30").withDayOfWeek(7).build();
+    }
+
+    @Benchmark
+    public NoOverlapLessonList addLesson() throws OverlappingLessonsException {
+        return lessonsList.addLesson(newLesson);
+    }
+}
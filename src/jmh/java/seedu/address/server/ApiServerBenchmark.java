@@ -0,0 +1,148 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Load tests the {@code ApiServer} with several clients sending requests at once, each waiting for the answer to
+ * one request before sending the next. The score is the number of requests answered per second by the server.
+ * {@code mixed} sends one command for every {@value #READS_PER_COMMAND} reads, to show how reads fare while
+ * commands are being run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ApiServerBenchmark {
+
+    private static final int READS_PER_COMMAND = 20;
+
+    @Param({"1000", "10000"})
+    private int personCount;
+
+    @Param({"4"})
+    private int serverThreadCount;
+
+    private Path tempDirectory;
+    private ExecutorService writer;
+    private ApiServer apiServer;
+    private HttpClient client;
+
+    private HttpRequest getPersonDetails;
+    private HttpRequest getTasks;
+    private HttpRequest postListCommand;
+
+    /**
+     * Starts an {@code ApiServer} for an address book of {@code personCount} students, saving to a temporary
+     * directory.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        tempDirectory = Files.createTempDirectory("benchmark");
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(tempDirectory.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(tempDirectory.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(
+                new ModelManager(BenchmarkAddressBooks.withPersons(personCount), new UserPrefs()), storage);
+        writer = Executors.newSingleThreadExecutor();
+        apiServer = new ApiServer(logic, writer, 0, serverThreadCount);
+        apiServer.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        getPersonDetails = newRequest(ApiServer.PERSONS_PATH + "/1").GET().build();
+        getTasks = newRequest(ApiServer.TASKS_PATH).GET().build();
+        postListCommand = newRequest(ApiServer.COMMANDS_PATH).POST(HttpRequest.BodyPublishers.ofString("list")).build();
+    }
+
+    /**
+     * Stops the server and deletes the temporary directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        apiServer.stop();
+        writer.shutdown();
+        try (Stream<Path> paths = Files.walk(tempDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(file -> file.delete());
+        }
+    }
+
+    @Benchmark
+    public int getPersonDetails() throws IOException, InterruptedException {
+        return send(getPersonDetails);
+    }
+
+    @Benchmark
+    public int getTasks() throws IOException, InterruptedException {
+        return send(getTasks);
+    }
+
+    @Benchmark
+    public int postCommand() throws IOException, InterruptedException {
+        return send(postListCommand);
+    }
+
+    @Benchmark
+    public int mixed(ClientState clientState) throws IOException, InterruptedException {
+        return send(clientState.nextRequest() % READS_PER_COMMAND == 0 ? postListCommand : getPersonDetails);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Request failed with status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + apiServer.getPort() + path))
+                .header(ApiServer.AUTHORIZATION_HEADER, ApiServer.TOKEN_SCHEME + apiServer.getToken());
+    }
+
+    /**
+     * Counts the requests sent by one client.
+     */
+    @State(Scope.Thread)
+    public static class ClientState {
+        private int requestCount;
+
+        int nextRequest() {
+            return requestCount++;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.BenchmarkAddressBooks;
+
+/**
+ * Benchmarks converting an address book to its json form and back, without touching the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    @Param({"false", "true"})
+    private boolean isUsingIdTable;
+
+    private AddressBook addressBook;
+    private String json;
+
+    /**
+     * Builds the address book and its serialized form.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkAddressBooks.withPersons(personCount);
+        json = serialize();
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook, isUsingIdTable));
+    }
+
+    @Benchmark
+    public AddressBook deserialize() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.testutil;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Builds the address books the benchmarks are run against, so that every benchmark sees the same data for a size.
+ */
+public class BenchmarkAddressBooks {
+
+    public static final long SEED = 2103;
+    public static final int STUDENTS_PER_TASK = 10;
+    public static final int STUDENTS_PER_GROUP = 5;
+
+    /**
+     * Returns an address book with {@code personCount} students and proportionally many tasks and groups.
+     */
+    public static AddressBook withPersons(int personCount) {
+        return new SampleDataGenerator(SEED).generate(personCount, Math.max(2, personCount / STUDENTS_PER_TASK),
+                Math.max(1, personCount / STUDENTS_PER_GROUP));
+    }
+}
@@ -0,0 +1,291 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LatencyStats;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.jfr.DataLoadedEvent;
+import seedu.address.commons.jfr.FlightRecording;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.ApiServer;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonDirectoryAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SqlAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Creates the components of the app that do not depend on the UI, i.e. storage, model and logic,
+ * from the config file and user preferences. Both the GUI ({@link MainApp}) and the headless app ({@link HeadlessMain})
+ * are started from these components.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private Config config;
+    private Storage storage;
+    private Model model;
+    private Logic logic;
+    private ApiServer apiServer;
+
+    /**
+     * Reads the config file at {@code configFilePath} (or the default config file if it is null) and the user
+     * preferences, then loads the address book and creates the logic component for it.
+     */
+    public void init(Path configFilePath) {
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Records the time from the start of the JVM until now, when the app is ready for its first command.
+     * The time is logged and kept in {@code LatencyStats}, so that the startup of the GUI and of the headless app
+     * can be compared.
+     */
+    public static void recordStartupTime() {
+        long startupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        LatencyStats.record(LatencyStats.Phase.STARTUP, TimeUnit.MILLISECONDS.toNanos(startupMillis));
+        logger.info(() -> "Started in " + startupMillis + " ms");
+    }
+
+    /**
+     * Starts the API server on the port in the config, if there is one, with commands run by {@code writer}, and
+     * writes the token that clients must send to it to the token file in the config.
+     * Returns the server, or an empty {@code Optional} if it is not enabled or could not be started.
+     */
+    public Optional<ApiServer> startApiServer(Executor writer) {
+        Integer port = config.getApiServerPort();
+        if (port == null) {
+            return Optional.empty();
+        }
+
+        try {
+            apiServer = new ApiServer(logic, writer, port, config.getApiServerThreadCount());
+        } catch (IOException e) {
+            logger.warning("Could not start the API server on port " + port + ": " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+        apiServer.start();
+
+        Path tokenFilePath = config.getApiTokenFilePath();
+        try {
+            writeApiToken(tokenFilePath, apiServer.getToken());
+        } catch (IOException e) {
+            logger.warning("Could not write the API token to " + tokenFilePath + ": " + StringUtil.getDetails(e));
+            apiServer.stop();
+            apiServer = null;
+            return Optional.empty();
+        }
+        logger.info("API token written to " + tokenFilePath);
+        return Optional.of(apiServer);
+    }
+
+    /**
+     * Writes {@code token} to {@code file}, which only the user may read where the file system allows it.
+     */
+    private static void writeApiToken(Path file, String token) throws IOException {
+        FileUtil.createIfMissing(file);
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // e.g. on Windows, where the file keeps the permissions of its folder
+        }
+        FileUtil.writeToFile(file, token);
+    }
+
+    /**
+     * Stops the API server, if it was started, and saves the user preferences, which may have been changed while
+     * the app was running.
+     */
+    public void stop() {
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data location and storage format in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case JSON_DIRECTORY:
+            return new JsonDirectoryAddressBookStorage(addressBookFilePath);
+        case SQL:
+            return new SqlAddressBookStorage(addressBookFilePath);
+        case JSON_ID_TABLE:
+            return new JsonAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookCompressed(), true);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookCompressed());
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        DataLoadedEvent dataLoadedEvent = new DataLoadedEvent();
+        dataLoadedEvent.begin();
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+            }
+            dataLoadedEvent.setSource(addressBookOptional.isPresent() ? "file" : "sample");
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            dataLoadedEvent.setSource("empty");
+            initialData = new AddressBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            dataLoadedEvent.setSource("empty");
+            initialData = new AddressBook();
+        }
+        dataLoadedEvent.end();
+        if (dataLoadedEvent.shouldCommit()) {
+            dataLoadedEvent.setEntityCounts(initialData.getPersonList().size(), initialData.getTaskList().size(),
+                    initialData.getGroupList().size());
+            dataLoadedEvent.setDataSize(storage.getDataSize());
+            dataLoadedEvent.commit();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+        if (config.getFlightRecordingFilePath() != null) {
+            FlightRecording.start(config.getFlightRecordingFilePath(), config.getFlightRecordingMaxSizeInMb());
+        }
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.server.ApiServer;
+
+/**
+ * Runs the app without a GUI, so that it can be scripted or used on a machine without a display.
+ * Commands are read one per line from a file, or from standard input if no file is given, and the result of each
+ * is printed. Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped.
+ * <p>
+ * Usage: {@code HeadlessMain [--config=CONFIG_FILE] [COMMAND_FILE]}. The data file and user preferences are the same
+ * as those of the GUI. Exits with status 1 if any command failed.
+ * If the API server is enabled, it runs until the last command has been read, taking turns with these commands.
+ */
+public class HeadlessMain {
+
+    public static final String PROMPT = "> ";
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    private final CommandRunner commandRunner;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessMain} that runs commands with {@code commandRunner}, printing results to {@code out}
+     * and errors to {@code err}.
+     */
+    public HeadlessMain(CommandRunner commandRunner, PrintStream out, PrintStream err) {
+        requireNonNull(commandRunner);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.commandRunner = commandRunner;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Starts the app with the config file and command file given in {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        List<String> argList = Arrays.asList(args);
+        AppParameters appParameters = AppParameters.parse(argList);
+        Optional<Path> commandFilePath = argList.stream()
+                .filter(arg -> !arg.startsWith(AppParameters.NAMED_PARAMETER_PREFIX))
+                .findFirst()
+                .map(Paths::get);
+
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        AppInitializer appInitializer = new AppInitializer();
+        appInitializer.init(appParameters.getConfigPath());
+        logger.info("Starting AddressBook without a GUI");
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        Optional<ApiServer> apiServer = appInitializer.startApiServer(writer);
+        CommandRunner commandRunner = apiServer.isPresent()
+                ? apiServer.get()::execute
+                : appInitializer.getLogic()::execute;
+        AppInitializer.recordStartupTime();
+
+        boolean isSuccessful;
+        boolean isInteractive = commandFilePath.isEmpty() && System.console() != null;
+        try (BufferedReader commands = commandFilePath.isPresent()
+                ? Files.newBufferedReader(commandFilePath.get())
+                : new BufferedReader(new InputStreamReader(System.in))) {
+            isSuccessful = new HeadlessMain(commandRunner, System.out, System.err).run(commands, isInteractive);
+        } finally {
+            logger.info("============================ [ Stopping Address Book ] =============================");
+            appInitializer.stop();
+            writer.shutdown();
+        }
+
+        if (!isSuccessful) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs each command in {@code commands} until there are no more or an exit command is run.
+     * If {@code showPrompt} is true, a prompt is printed before each command is read.
+     *
+     * @return true if every command succeeded.
+     */
+    public boolean run(BufferedReader commands, boolean showPrompt) throws IOException {
+        boolean isSuccessful = true;
+        while (true) {
+            if (showPrompt) {
+                out.print(PROMPT);
+                out.flush();
+            }
+            String line = commands.readLine();
+            if (line == null) {
+                return isSuccessful;
+            }
+
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = commandRunner.execute(commandText);
+                out.println(commandResult.isShowHelp() ? HelpCommand.HELP_MESSAGE : commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    return isSuccessful;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                isSuccessful = false;
+            }
+        }
+    }
+
+    /**
+     * Runs a command, as {@link seedu.address.logic.Logic#execute} does.
+     */
+    @FunctionalInterface
+    public interface CommandRunner {
+        CommandResult execute(String commandText) throws CommandException, ParseException;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a data file filled by {@link SampleDataGenerator}, for trying out the app with a large number of students.
+ * <p>
+ * Usage: {@code SampleDataWriter [FILE] [STUDENTS] [TASKS] [GROUPS] [SEED]}. Arguments that are left out take
+ * their default values, which give the 1000 students the app is expected to handle.
+ */
+public class SampleDataWriter {
+
+    public static final String DEFAULT_FILE = "data/sampleaddressbook.json";
+    public static final int DEFAULT_PERSON_COUNT = 1000;
+    public static final int DEFAULT_TASK_COUNT = 100;
+    public static final int DEFAULT_GROUP_COUNT = 200;
+    public static final long DEFAULT_SEED = 0;
+
+    /**
+     * Generates the address book described by {@code args} and saves it.
+     */
+    public static void main(String[] args) throws IOException {
+        Path filePath = Paths.get(args.length > 0 ? args[0] : DEFAULT_FILE);
+        int personCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PERSON_COUNT;
+        int taskCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TASK_COUNT;
+        int groupCount = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_GROUP_COUNT;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : DEFAULT_SEED;
+
+        ReadOnlyAddressBook addressBook = new SampleDataGenerator(seed).generate(personCount, taskCount, groupCount);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        System.out.printf("Saved %d students, %d tasks and %d groups to %s%n",
+                personCount, taskCount, groupCount, filePath.toAbsolutePath());
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to a background thread, which passes them on to the target handlers,
+ * so that the thread doing the logging (usually the JavaFX application thread) never waits for the console or the
+ * log file.
+ * <p>
+ * Records wait for the background thread in a ring buffer of fixed capacity. When the buffer is full:
+ * <ul>
+ *     <li>records below {@code WARNING} are dropped, and the number dropped is logged once the buffer has room,</li>
+ *     <li>records at {@code WARNING} and above wait for room, so that problems are never lost.</li>
+ * </ul>
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final String MESSAGE_RECORDS_DROPPED = "%d log message(s) dropped because the log buffer was full";
+
+    private final List<Handler> targets;
+    private final LogRecord[] buffer;
+    private final Thread writer;
+    private int head;
+    private int count;
+    private long droppedCount;
+    private boolean isWriting;
+    private boolean isClosed;
+
+    /**
+     * Creates a handler that passes records on to {@code targets}, with room for {@code capacity} records
+     * waiting to be written.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity) {
+        requireNonNull(targets);
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.targets = List.copyOf(targets);
+        this.buffer = new LogRecord[capacity];
+        this.writer = new Thread(this::writeRecords, "LogsCenter writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // the caller is worked out from the stack when first asked for, which has to happen on the logging thread
+        record.getSourceClassName();
+
+        synchronized (this) {
+            while (count == buffer.length && !isClosed) {
+                // the writer waiting for itself would never wake up
+                if (record.getLevel().intValue() < Level.WARNING.intValue() || Thread.currentThread() == writer) {
+                    droppedCount++;
+                    return;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (isClosed) {
+                return;
+            }
+            buffer[(head + count) % buffer.length] = record;
+            count++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every record published so far has been passed on, then flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        synchronized (this) {
+            while ((count > 0 || isWriting) && writer.isAlive() && Thread.currentThread() != writer) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Passes on the records still in the buffer, then closes the target handlers.
+     * Records published after this are discarded.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Runs on the background thread, taking all the records waiting in the buffer at a time and passing them on,
+     * until the handler is closed and the buffer is empty.
+     */
+    private void writeRecords() {
+        LogRecord[] batch = new LogRecord[buffer.length];
+        while (true) {
+            int batchSize;
+            long dropped;
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+                while (count == 0 && !isClosed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // keep going, records are only given up on when the handler is closed
+                    }
+                }
+                if (count == 0) {
+                    return;
+                }
+                batchSize = takeAll(batch);
+                dropped = droppedCount;
+                droppedCount = 0;
+                isWriting = true;
+                notifyAll();
+            }
+
+            if (dropped > 0) {
+                publishToTargets(createDroppedRecord(dropped));
+            }
+            for (int i = 0; i < batchSize; i++) {
+                publishToTargets(batch[i]);
+                batch[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Moves every record in the buffer into {@code batch}, oldest first, and returns how many there were.
+     */
+    private int takeAll(LogRecord[] batch) {
+        assert Thread.holdsLock(this);
+        int taken = count;
+        for (int i = 0; i < taken; i++) {
+            batch[i] = buffer[head];
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+        }
+        count = 0;
+        return taken;
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private static LogRecord createDroppedRecord(long dropped) {
+        LogRecord record = new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, dropped));
+        record.setLoggerName(AsyncLogHandler.class.getSimpleName());
+        record.setSourceClassName(AsyncLogHandler.class.getName());
+        record.setSourceMethodName("writeRecords");
+        return record;
+    }
+}
@@ -15,6 +15,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path flightRecordingFilePath = null;
+    private long flightRecordingMaxSizeInMb = 64;
+    private Integer apiServerPort = null;
+    private int apiServerThreadCount = 4;
+    private Path apiTokenFilePath = Paths.get("api_token.txt");
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +37,57 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the file that a continuous flight recording is written to when the app exits,
+     * or null if no recording should be made.
+     */
+    public Path getFlightRecordingFilePath() {
+        return flightRecordingFilePath;
+    }
+
+    public void setFlightRecordingFilePath(Path flightRecordingFilePath) {
+        this.flightRecordingFilePath = flightRecordingFilePath;
+    }
+
+    public long getFlightRecordingMaxSizeInMb() {
+        return flightRecordingMaxSizeInMb;
+    }
+
+    public void setFlightRecordingMaxSizeInMb(long flightRecordingMaxSizeInMb) {
+        this.flightRecordingMaxSizeInMb = flightRecordingMaxSizeInMb;
+    }
+
+    /**
+     * Returns the port that the API server listens on for requests from this computer,
+     * or null if the API server should not be started.
+     */
+    public Integer getApiServerPort() {
+        return apiServerPort;
+    }
+
+    public void setApiServerPort(Integer apiServerPort) {
+        this.apiServerPort = apiServerPort;
+    }
+
+    public int getApiServerThreadCount() {
+        return apiServerThreadCount;
+    }
+
+    public void setApiServerThreadCount(int apiServerThreadCount) {
+        this.apiServerThreadCount = apiServerThreadCount;
+    }
+
+    /**
+     * Returns the file that the token clients must send to the API server is written to each time it starts.
+     */
+    public Path getApiTokenFilePath() {
+        return apiTokenFilePath;
+    }
+
+    public void setApiTokenFilePath(Path apiTokenFilePath) {
+        this.apiTokenFilePath = apiTokenFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +100,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(flightRecordingFilePath, o.flightRecordingFilePath)
+                && flightRecordingMaxSizeInMb == o.flightRecordingMaxSizeInMb
+                && Objects.equals(apiServerPort, o.apiServerPort)
+                && apiServerThreadCount == o.apiServerThreadCount
+                && Objects.equals(apiTokenFilePath, o.apiTokenFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, flightRecordingFilePath, flightRecordingMaxSizeInMb,
+                apiServerPort, apiServerThreadCount, apiTokenFilePath);
     }
 
     @Override
@@ -57,6 +119,11 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nFlight recording file : " + flightRecordingFilePath);
+        sb.append("\nFlight recording max size (MB) : " + flightRecordingMaxSizeInMb);
+        sb.append("\nAPI server port : " + apiServerPort);
+        sb.append("\nAPI server threads : " + apiServerThreadCount);
+        sb.append("\nAPI token file : " + apiTokenFilePath);
         return sb.toString();
     }
 
@@ -0,0 +1,109 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Records durations in nanoseconds and reports their percentiles, in the style of an HDR histogram.
+ * Durations are counted in buckets whose width grows with the duration, so that any duration up to
+ * {@link #MAX_TRACKABLE_VALUE} is reported to within about 3% of its value,
+ * using a fixed amount of memory however many durations are recorded.
+ * The largest duration recorded is kept exactly.
+ */
+public class LatencyHistogram {
+
+    /** Durations above this (about 18 minutes) are counted in the last bucket. */
+    public static final long MAX_TRACKABLE_VALUE = (1L << 40) - 1;
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private final long[] counts = new long[getBucketIndex(MAX_TRACKABLE_VALUE) + 1];
+    private long totalCount;
+    private long maxValue;
+
+    public LatencyHistogram() {}
+
+    /**
+     * Creates a histogram with the same recorded durations as {@code toBeCopied}.
+     */
+    public LatencyHistogram(LatencyHistogram toBeCopied) {
+        synchronized (toBeCopied) {
+            System.arraycopy(toBeCopied.counts, 0, counts, 0, counts.length);
+            totalCount = toBeCopied.totalCount;
+            maxValue = toBeCopied.maxValue;
+        }
+    }
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[getBucketIndex(Math.min(value, MAX_TRACKABLE_VALUE))]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, value);
+    }
+
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the duration that {@code percentile} percent of the recorded durations are at or below,
+     * or 0 if nothing has been recorded.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long countToReach = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length - 1; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= countToReach) {
+                return Math.min(getHighestValueInBucket(i), maxValue);
+            }
+        }
+        // the last bucket also holds the durations that were too long to track
+        return maxValue;
+    }
+
+    /**
+     * Removes every recorded duration.
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        maxValue = 0;
+    }
+
+    /**
+     * Returns the bucket that {@code value} is counted in. Values below {@code SUB_BUCKET_COUNT} get a bucket each;
+     * above that, every doubling of the value is split into {@code SUB_BUCKET_HALF_COUNT} buckets.
+     */
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    private static long getHighestValueInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
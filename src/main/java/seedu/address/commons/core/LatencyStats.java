@@ -0,0 +1,105 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps a {@link LatencyHistogram} of how long each phase of a command takes, for every kind of command.
+ * <p>
+ * The command being timed is set with {@link #startCommand(String)} on the thread that runs it, so that
+ * phases timed deeper down (e.g. in the model) are recorded against that command without being told about it.
+ */
+public class LatencyStats {
+
+    /** Durations recorded outside of a command are kept under this name. */
+    public static final String NO_COMMAND = "(startup)";
+
+    /**
+     * The phases of a command that are timed.
+     */
+    public enum Phase {
+        STARTUP("startup"),
+        PARSE("parse"),
+        EXECUTE("execute"),
+        SCHEDULE_REBUILD("schedule rebuild"),
+        SAVE("save"),
+        LAYOUT("layout");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static final Map<String, Map<Phase, LatencyHistogram>> histograms = new HashMap<>();
+    private static final ThreadLocal<String> currentCommand = new ThreadLocal<>();
+
+    /**
+     * Records the phases timed on this thread against {@code commandName} until {@link #endCommand()} is called.
+     */
+    public static void startCommand(String commandName) {
+        currentCommand.set(requireNonNull(commandName));
+    }
+
+    public static void endCommand() {
+        currentCommand.remove();
+    }
+
+    /**
+     * Records that {@code phase} of the current command took {@code nanos} nanoseconds.
+     */
+    public static void record(Phase phase, long nanos) {
+        record(currentCommand.get() == null ? NO_COMMAND : currentCommand.get(), phase, nanos);
+    }
+
+    /**
+     * Records that {@code phase} took {@code nanos} nanoseconds under {@code name}, for durations that are not part
+     * of a command, e.g. the UI's layout passes.
+     */
+    public static void record(String name, Phase phase, long nanos) {
+        requireNonNull(name);
+        requireNonNull(phase);
+        LatencyHistogram histogram;
+        synchronized (histograms) {
+            histogram = histograms.computeIfAbsent(name, unused -> new EnumMap<>(Phase.class))
+                    .computeIfAbsent(phase, unused -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Returns a copy of the histograms recorded so far, by command name and then by phase.
+     * Commands are in alphabetical order and phases in the order they happen.
+     */
+    public static Map<String, Map<Phase, LatencyHistogram>> getHistograms() {
+        Map<String, Map<Phase, LatencyHistogram>> copy = new TreeMap<>();
+        synchronized (histograms) {
+            histograms.forEach((commandName, phases) -> {
+                Map<Phase, LatencyHistogram> phasesCopy = new EnumMap<>(Phase.class);
+                phases.forEach((phase, histogram) -> phasesCopy.put(phase, new LatencyHistogram(histogram)));
+                copy.put(commandName, Collections.unmodifiableMap(phasesCopy));
+            });
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Removes every recorded duration.
+     */
+    public static void reset() {
+        synchronized (histograms) {
+            histograms.clear();
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
+import java.util.stream.Stream;
 
 /**
  * Configures and manages loggers and handlers, including their logging level
@@ -14,6 +20,8 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread through an {@link AsyncLogHandler}, so logging does not hold up
+ *   the UI. See {@code AsyncLogHandler} for what happens when messages are logged faster than they are written.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -23,16 +31,20 @@ public class LogsCenter {
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
      * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
      * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * is requested again from the LogsCenter. The handlers shared by all loggers are updated immediately.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        Stream.of(asyncHandler, consoleHandler, fileHandler)
+                .filter(Objects::nonNull)
+                .forEach(handler -> handler.setLevel(currentLogLevel));
+        logger.info(() -> "currentLogLevel: " + currentLogLevel);
     }
 
     /**
@@ -41,10 +53,10 @@ public class LogsCenter {
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -60,14 +72,14 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, writing to the console and the log file, if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
         }
-        logger.addHandler(consoleHandler);
+        logger.addHandler(asyncHandler);
     }
 
     /**
@@ -79,18 +91,26 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Creates an {@code AsyncLogHandler} for the console and, if it can be opened, the log file.
      */
-    private static void addFileHandler(Logger logger) {
+    private static AsyncLogHandler createAsyncHandler() {
+        List<Handler> targets = new ArrayList<>();
+        consoleHandler = createConsoleHandler();
+        targets.add(consoleHandler);
+        String fileHandlerError = null;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            fileHandler = createFileHandler();
+            targets.add(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            fileHandlerError = "Error adding file handler for logger.";
         }
+
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(targets, AsyncLogHandler.DEFAULT_CAPACITY);
+        asyncHandler.setLevel(currentLogLevel);
+        if (fileHandlerError != null) {
+            asyncHandler.publish(new LogRecord(Level.WARNING, fileHandlerError));
+        }
+        return asyncHandler;
     }
 
     /**
@@ -0,0 +1,18 @@
+package seedu.address.commons.core;
+
+/**
+ * Formats in which the address book data can be stored on the hard disk.
+ */
+public enum StorageFormat {
+    /** A single json file holding the whole address book. */
+    JSON,
+
+    /** A single json file in which persons, tasks and groups refer to each other through an id table. */
+    JSON_ID_TABLE,
+
+    /** A directory holding one small json file per person, task and group, along with a manifest. */
+    JSON_DIRECTORY,
+
+    /** An embedded H2 database with one table per kind of entity and detail. */
+    SQL
+}
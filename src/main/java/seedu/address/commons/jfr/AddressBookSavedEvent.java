@@ -0,0 +1,53 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the saving of the address book after a command.
+ */
+@Name("seedu.address.AddressBookSaved")
+@Label("Address Book Saved")
+@Category({"Tutor Master", "Storage"})
+@Description("The address book has been saved after a command")
+public class AddressBookSavedEvent extends Event {
+
+    @Label("Command")
+    @Description("Command word and action, e.g. student -a")
+    private final String commandName;
+
+    @Label("Students")
+    private int personCount;
+
+    @Label("Tasks")
+    private int taskCount;
+
+    @Label("Groups")
+    private int groupCount;
+
+    @Label("Data Size")
+    @Description("Size of the data file, or of all files under the data directory, after saving")
+    @DataAmount
+    private long dataSize;
+
+    public AddressBookSavedEvent(String commandName) {
+        this.commandName = commandName;
+    }
+
+    /**
+     * Sets the number of students, tasks and groups in the address book.
+     */
+    public void setEntityCounts(int personCount, int taskCount, int groupCount) {
+        this.personCount = personCount;
+        this.taskCount = taskCount;
+        this.groupCount = groupCount;
+    }
+
+    public void setDataSize(long dataSize) {
+        this.dataSize = dataSize;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the successful execution of a command on the model.
+ * The entity counts are those of the address book after the command.
+ */
+@Name("seedu.address.CommandExecuted")
+@Label("Command Executed")
+@Category({"Tutor Master", "Commands"})
+@Description("A command has been executed on the model")
+public class CommandExecutedEvent extends Event {
+
+    @Label("Command")
+    @Description("Command word and action, e.g. student -a")
+    private final String commandName;
+
+    @Label("Students")
+    private int personCount;
+
+    @Label("Tasks")
+    private int taskCount;
+
+    @Label("Groups")
+    private int groupCount;
+
+    public CommandExecutedEvent(String commandName) {
+        this.commandName = commandName;
+    }
+
+    /**
+     * Sets the number of students, tasks and groups in the address book.
+     */
+    public void setEntityCounts(int personCount, int taskCount, int groupCount) {
+        this.personCount = personCount;
+        this.taskCount = taskCount;
+        this.groupCount = groupCount;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the parsing of a command that the user entered.
+ */
+@Name("seedu.address.CommandParsed")
+@Label("Command Parsed")
+@Category({"Tutor Master", "Commands"})
+@Description("A command entered by the user has been parsed")
+public class CommandParsedEvent extends Event {
+
+    @Label("Command")
+    @Description("Command word and action, e.g. student -a")
+    private final String commandName;
+
+    public CommandParsedEvent(String commandName) {
+        this.commandName = commandName;
+    }
+}
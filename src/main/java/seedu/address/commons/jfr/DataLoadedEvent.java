@@ -0,0 +1,53 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the loading of the address book when the app starts.
+ */
+@Name("seedu.address.DataLoaded")
+@Label("Data Loaded")
+@Category({"Tutor Master", "Storage"})
+@Description("The address book has been read from storage at startup")
+public class DataLoadedEvent extends Event {
+
+    @Label("Source")
+    @Description("Where the data came from: file, sample or empty")
+    private String source;
+
+    @Label("Students")
+    private int personCount;
+
+    @Label("Tasks")
+    private int taskCount;
+
+    @Label("Groups")
+    private int groupCount;
+
+    @Label("Data Size")
+    @Description("Size of the data file, or of all files under the data directory")
+    @DataAmount
+    private long dataSize;
+
+    /**
+     * Sets the number of students, tasks and groups in the address book.
+     */
+    public void setEntityCounts(int personCount, int taskCount, int groupCount) {
+        this.personCount = personCount;
+        this.taskCount = taskCount;
+        this.groupCount = groupCount;
+    }
+
+    public void setDataSize(long dataSize) {
+        this.dataSize = dataSize;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.commons.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Starts a continuous flight recording of the app, so that the events in this package (and the JVM's own events)
+ * can be inspected in JDK Mission Control after a session.
+ */
+public class FlightRecording {
+
+    /** The recording settings that ship with the JDK, which are cheap enough to leave on all the time. */
+    public static final String SETTINGS = "default";
+
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecording.class);
+
+    /**
+     * Starts recording to disk, keeping at most {@code maxSizeInMb} megabytes of the most recent events.
+     * The recording is written to {@code destination} when the app exits.
+     * Returns the recording, or null if it could not be started.
+     */
+    public static Recording start(Path destination, long maxSizeInMb) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(SETTINGS));
+            recording.setName("Tutor Master");
+            recording.setToDisk(true);
+            recording.setMaxSize(maxSizeInMb * BYTES_PER_MB);
+            recording.setDestination(destination);
+            recording.setDumpOnExit(true);
+            recording.start();
+            logger.info("Flight recording to " + destination);
+            return recording;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warning("Failed to start flight recording : " + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the rebuilding of the sorted list of lessons shown in the schedule.
+ */
+@Name("seedu.address.ScheduleRebuilt")
+@Label("Schedule Rebuilt")
+@Category({"Tutor Master", "Model"})
+@Description("The lessons of all students and groups have been collected and sorted for the schedule")
+public class ScheduleRebuiltEvent extends Event {
+
+    @Label("Lessons")
+    private int lessonCount;
+
+    public void setLessonCount(int lessonCount) {
+        this.lessonCount = lessonCount;
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -32,4 +33,32 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Changes {@code list} to hold the elements of {@code newElements}, in order, by replacing only the elements
+     * between the longest common prefix and the longest common suffix of the two lists.
+     * When {@code list} is observed, e.g. by a {@code ListView}, this tells the observers what actually changed, so
+     * showing a slightly different list only updates the affected rows.
+     */
+    public static <T> void replaceChanged(List<T> list, List<? extends T> newElements) {
+        requireAllNonNull(list, newElements);
+        int oldSize = list.size();
+        int newSize = newElements.size();
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && Objects.equals(list.get(prefix), newElements.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && Objects.equals(list.get(oldSize - suffix - 1), newElements.get(newSize - suffix - 1))) {
+            suffix++;
+        }
+
+        if (oldSize - suffix > prefix) {
+            list.subList(prefix, oldSize - suffix).clear();
+        }
+        if (newSize - suffix > prefix) {
+            list.addAll(prefix, newElements.subList(prefix, newSize - suffix));
+        }
+    }
 }
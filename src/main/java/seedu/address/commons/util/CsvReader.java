@@ -0,0 +1,103 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one row at a time, so that a file of any size can be read in little memory.
+ * <p>
+ * Fields are separated by commas. A field in double quotes may hold commas, line breaks and doubled double quotes,
+ * which stand for one double quote. Blank lines are skipped. A byte order mark at the start of the input, which
+ * spreadsheet apps write at the start of a UTF-8 CSV file, is ignored.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private int rowLineNumber;
+
+    public CsvReader(BufferedReader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next row, or null if there are no more rows.
+     *
+     * @throws IOException if the row cannot be read, or a quoted field is not closed before the end of the input.
+     */
+    public List<String> readRow() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            if (lineNumber == 0 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                line = line.substring(1);
+            }
+            lineNumber++;
+        } while (line.isBlank());
+        rowLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                // a quoted field goes on over the line break
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Line " + rowLineNumber + ": a quoted field is not closed");
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the number of the line on which the last row returned by {@link #readRow()} starts, counting from 1.
+     */
+    public int getRowLineNumber() {
+        return rowLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -1,10 +1,20 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +22,10 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +94,85 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns a buffered stream of the contents of {@code file}, which is decompressed as it is read if the file
+     * starts with the GZIP magic bytes.
+     * Assumes file exists.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            return isGzipStream(in) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a buffered stream that writes to {@code file}, compressing what is written with GZIP if
+     * {@code isCompressed} is true.
+     * Will create the file if it does not exist yet, and overwrite it if it does.
+     */
+    public static OutputStream openForWriting(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+        try {
+            return isCompressed ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the next bytes of {@code in} are the GZIP magic bytes, without consuming them.
+     */
+    private static boolean isGzipStream(InputStream in) throws IOException {
+        in.mark(2);
+        int firstByte = in.read();
+        int secondByte = in.read();
+        in.reset();
+        return firstByte == GZIP_MAGIC_FIRST_BYTE && secondByte == GZIP_MAGIC_SECOND_BYTE;
+    }
+
+    /**
+     * Returns the size in bytes of {@code path} if it is a file, or the total size of the files under it if it is a
+     * directory. Returns 0 if there is nothing at {@code path} or its size cannot be read.
+     */
+    public static long getTotalSize(Path path) {
+        try (Stream<Path> paths = Files.walk(path)) {
+            return paths.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        } catch (IOException | UncheckedIOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the SHA-256 checksum of the contents of {@code file} as a hexadecimal string.
+     * The file is read in chunks, so its size does not matter.
+     * Assumes file exists.
+     */
+    public static String computeChecksum(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(CHECKSUM_ALGORITHM + " is not supported on this platform", e);
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, bytesRead);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
 }
@@ -0,0 +1,122 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the content lines of an iCalendar (RFC 5545) file one at a time, so that a calendar of any size can be
+ * written in little memory.
+ * <p>
+ * Lines end with CRLF, and a line longer than 75 octets in UTF-8 is folded onto continuation lines that start with
+ * a space, without splitting a character.
+ */
+public class IcsWriter implements Closeable {
+
+    /** The most octets a line may have, not counting the line break. */
+    public static final int MAX_LINE_OCTETS = 75;
+
+    private static final String LINE_BREAK = "\r\n";
+
+    private final Writer writer;
+    /** The number of octets written on the current line so far. */
+    private int lineOctets;
+
+    public IcsWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the line that starts a component, such as {@code VEVENT}.
+     */
+    public void begin(String component) throws IOException {
+        writeProperty("BEGIN", component);
+    }
+
+    /**
+     * Writes the line that ends a component started with {@link #begin(String)}.
+     */
+    public void end(String component) throws IOException {
+        writeProperty("END", component);
+    }
+
+    /**
+     * Writes {@code name:value}. The value is written as it is, so it must already be in the form the property
+     * takes; use {@link #writeText(String, String)} for free text.
+     */
+    public void writeProperty(String name, String value) throws IOException {
+        append(name);
+        append(":");
+        append(value);
+        endLine();
+    }
+
+    /**
+     * Writes {@code name:text}, escaping the characters that have a meaning in a text value.
+     */
+    public void writeText(String name, String text) throws IOException {
+        writeProperty(name, escapeText(text));
+    }
+
+    /**
+     * Returns {@code text} with backslashes, semicolons, commas and line breaks escaped as RFC 5545 requires of a
+     * text value.
+     */
+    public static String escapeText(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+            case ';':
+            case ',':
+                escaped.append('\\').append(c);
+                break;
+            case '\r':
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Writes {@code text} as part of the current line, folding the line where it would grow too long.
+     */
+    private void append(String text) throws IOException {
+        int start = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            int octets = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                writer.write(text, start, i - start);
+                writer.write(LINE_BREAK);
+                writer.write(' ');
+                // the leading space of a continuation line counts towards its length
+                lineOctets = 1;
+                start = i;
+            }
+            lineOctets += octets;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(text, start, text.length() - start);
+    }
+
+    private void endLine() throws IOException {
+        writer.write(LINE_BREAK);
+        lineOctets = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
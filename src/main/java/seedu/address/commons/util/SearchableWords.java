@@ -0,0 +1,30 @@
+package seedu.address.commons.util;
+
+/**
+ * The words of a piece of text in lower case, split once when the text is created so that finding keywords in it
+ * allocates nothing.
+ */
+public class SearchableWords {
+
+    private final String[] lowerCaseWords;
+
+    /**
+     * Splits {@code text} into its words, as separated by whitespace.
+     */
+    public SearchableWords(String text) {
+        lowerCaseWords = StringUtil.toLowerCaseWords(text);
+    }
+
+    /**
+     * Returns true if one of {@code lowerCaseKeywords} is one of the words.
+     * The keywords must already be in lower case, as given by {@link StringUtil#toLowerCaseKeywords(java.util.List)}.
+     */
+    public boolean containsAnyWord(String... lowerCaseKeywords) {
+        for (String keyword : lowerCaseKeywords) {
+            if (StringUtil.containsWord(lowerCaseWords, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
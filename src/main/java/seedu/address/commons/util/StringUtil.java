@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +29,54 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
+        return containsWord(toLowerCaseWords(sentence), toLowerCaseWord(word));
+    }
+
+    /**
+     * Returns the words of {@code sentence}, as separated by whitespace, in lower case.
+     * The result is meant to be computed once and searched with {@link #containsWord(String[], String)}.
+     */
+    public static String[] toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+        String[] words = sentence.toLowerCase(Locale.ROOT).split("\\s+");
+        // a sentence with leading whitespace splits into an empty first word
+        return words.length > 0 && words[0].isEmpty() ? Arrays.copyOfRange(words, 1, words.length) : words;
+    }
+
+    /**
+     * Returns {@code word} trimmed and in lower case, ready to be looked for with
+     * {@link #containsWord(String[], String)}.
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String toLowerCaseWord(String word) {
+        requireNonNull(word);
+
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
         checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return preppedWord.toLowerCase(Locale.ROOT);
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns each of {@code keywords} as given by {@link #toLowerCaseWord(String)}, ready to be looked for with
+     * {@link SearchableWords#containsAnyWord(String...)}.
+     */
+    public static String[] toLowerCaseKeywords(List<String> keywords) {
+        return keywords.stream().map(StringUtil::toLowerCaseWord).toArray(String[]::new);
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns true if {@code lowerCaseWord} is one of {@code lowerCaseWords}.
+     * Both must already be in lower case, as given by {@link #toLowerCaseWords(String)} and
+     * {@link #toLowerCaseWord(String)}; nothing is allocated.
+     */
+    public static boolean containsWord(String[] lowerCaseWords, String lowerCaseWord) {
+        for (String word : lowerCaseWords) {
+            if (word.equals(lowerCaseWord)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
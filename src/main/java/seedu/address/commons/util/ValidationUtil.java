@@ -0,0 +1,91 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalTime;
+import java.util.Optional;
+
+/**
+ * Checks for the simple formats that the value classes accept, written as scans over the characters so that no
+ * regular expression has to be matched (or compiled) when validating user input or loading the data file.
+ * Each check accepts exactly the strings that the regular expression given in its description accepts.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} is one or more ASCII letters or digits, i.e. matches {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is ASCII letters, digits and spaces, starting with a letter or digit,
+     * i.e. matches {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is at least {@code minLength} ASCII digits, i.e. matches {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the time represented by {@code test} in the 24-hour format HH:MM,
+     * i.e. matching {@code (0[0-9]|1[0-9]|2[0-3]):([0-5][0-9])}, or an empty {@code Optional} if it is not one.
+     */
+    public static Optional<LocalTime> parseTime(String test) {
+        requireNonNull(test);
+        if (test.length() != 5 || test.charAt(2) != ':' || !isDigit(test.charAt(0)) || !isDigit(test.charAt(1))
+                || !isDigit(test.charAt(3)) || !isDigit(test.charAt(4))) {
+            return Optional.empty();
+        }
+
+        int hour = (test.charAt(0) - '0') * 10 + (test.charAt(1) - '0');
+        int minute = (test.charAt(3) - '0') * 10 + (test.charAt(4) - '0');
+        if (hour > 23 || minute > 59) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalTime.of(hour, minute));
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
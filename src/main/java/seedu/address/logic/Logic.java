@@ -8,6 +8,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ViewingType;
 import seedu.address.model.group.Group;
@@ -37,6 +38,12 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a snapshot of the AddressBook as it was after the last command was executed.
+     * Unlike {@link #getAddressBook()}, the snapshot may be read from any thread.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -7,12 +7,18 @@ import java.util.logging.Logger;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LatencyStats;
+import seedu.address.commons.core.LatencyStats.Phase;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.AddressBookSavedEvent;
+import seedu.address.commons.jfr.CommandExecutedEvent;
+import seedu.address.commons.jfr.CommandParsedEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ViewingType;
@@ -46,19 +52,72 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
+        String commandName = getCommandName(commandText);
+        LatencyStats.startCommand(commandName);
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            CommandParsedEvent parsedEvent = new CommandParsedEvent(commandName);
+            parsedEvent.begin();
+            long startTime = System.nanoTime();
+            Command command = addressBookParser.parseCommand(commandText);
+            long parsedTime = System.nanoTime();
+            parsedEvent.commit();
+            LatencyStats.record(Phase.PARSE, parsedTime - startTime);
+
+            CommandExecutedEvent executedEvent = new CommandExecutedEvent(commandName);
+            executedEvent.begin();
+            CommandResult commandResult;
+            // the UI is told of all the changes a command makes at once, and lays itself out once for them
+            model.beginBatch();
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                model.endBatch();
+                // whatever the command changed, even if it then failed, is undone as one step, and is published
+                // before saving, as the model has changed even if it cannot be saved
+                model.commitAddressBook();
+                model.publishAddressBookSnapshot();
+            }
+            long executedTime = System.nanoTime();
+            if (executedEvent.shouldCommit()) {
+                ReadOnlyAddressBook addressBook = model.getAddressBook();
+                executedEvent.setEntityCounts(addressBook.getPersonList().size(), addressBook.getTaskList().size(),
+                        addressBook.getGroupList().size());
+                executedEvent.commit();
+            }
+            LatencyStats.record(Phase.EXECUTE, executedTime - parsedTime);
+
+            AddressBookSavedEvent savedEvent = new AddressBookSavedEvent(commandName);
+            savedEvent.begin();
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            LatencyStats.record(Phase.SAVE, System.nanoTime() - executedTime);
+            savedEvent.end();
+            if (savedEvent.shouldCommit()) {
+                ReadOnlyAddressBook addressBook = model.getAddressBook();
+                savedEvent.setEntityCounts(addressBook.getPersonList().size(), addressBook.getTaskList().size(),
+                        addressBook.getGroupList().size());
+                savedEvent.setDataSize(storage.getDataSize());
+                savedEvent.commit();
+            }
+
+            return commandResult;
+        } finally {
+            LatencyStats.endCommand();
         }
+    }
 
-        return commandResult;
+    /**
+     * Returns the command word of {@code commandText}, followed by its action for commands such as
+     * {@code student -a}. This is the name that the command is timed under in {@code LatencyStats}.
+     */
+    private static String getCommandName(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 3);
+        return words.length > 1 && words[1].startsWith("-") ? words[0] + " " + words[1] : words[0];
     }
 
     @Override
@@ -66,6 +125,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -0,0 +1,174 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.IcsWriter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.id.UniqueId;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Exam;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes the lessons and exams of all students and groups to an iCalendar file, which calendar apps can import.
+ * <p>
+ * Each lesson becomes an event that repeats weekly, starting on the next day it falls on, counted from today.
+ * Each exam becomes an event that happens once, lasting {@link #EXAM_DURATION} as exams have no end time. The events
+ * are written as the students and groups are walked, so the memory used does not grow with the number of students.
+ * <p>
+ * The UID of each event is made from its owner and what the event is, rather than where it is in a list, so that
+ * a calendar app importing a later export updates the events it already has instead of mixing them up.
+ */
+public class ExportScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "-export";
+
+    public static final String MESSAGE_USAGE = ScheduleCommand.COMMAND_WORD + " " + COMMAND_WORD
+            + ": Writes the lessons and exams of all students and groups to an iCalendar (.ics) file.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + ScheduleCommand.COMMAND_WORD + " " + COMMAND_WORD + " data/schedule.ics";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d lessons and %2$d exams to %3$s";
+    public static final String MESSAGE_CANNOT_WRITE = "Could not write %1$s: %2$s";
+
+    static final String PRODUCT_ID = "-//Tutor Master//Schedule//EN";
+    static final Duration EXAM_DURATION = Duration.ofHours(2);
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter UID_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+    private static final String UID_DOMAIN = "@tutormaster";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportScheduleCommand.class);
+
+    private final Path file;
+    private final Clock clock;
+
+    /**
+     * Creates an ExportScheduleCommand to write the schedule to {@code file}.
+     */
+    public ExportScheduleCommand(Path file) {
+        this(file, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an ExportScheduleCommand that takes today's date and the time stamp of the events from {@code clock}.
+     */
+    ExportScheduleCommand(Path file, Clock clock) {
+        requireNonNull(file);
+        requireNonNull(clock);
+        this.file = file;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LocalDate today = LocalDate.now(clock);
+        String timeStamp = LocalDateTime.now(clock.withZone(ZoneOffset.UTC)).format(UTC_DATE_TIME_FORMAT);
+        int lessonCount = 0;
+        int examCount = 0;
+
+        try {
+            FileUtil.createParentDirsOfFile(file);
+            try (IcsWriter writer = new IcsWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+                writer.begin("VCALENDAR");
+                writer.writeProperty("VERSION", "2.0");
+                writer.writeProperty("PRODID", PRODUCT_ID);
+                writer.writeProperty("CALSCALE", "GREGORIAN");
+
+                for (Person person : model.getAddressBook().getPersonList()) {
+                    String attendee = person.getName().fullName;
+                    lessonCount += writeLessons(writer, person.getId(), person.getLessons(), attendee, today,
+                            timeStamp);
+                    List<Exam> exams = person.getExams();
+                    for (Exam exam : exams) {
+                        String start = exam.getDateTime().format(LOCAL_DATE_TIME_FORMAT);
+                        writer.begin("VEVENT");
+                        writer.writeProperty("UID", toUid(person.getId(), "exam", start, exam.getSubject().toString()));
+                        writer.writeProperty("DTSTAMP", timeStamp);
+                        writer.writeProperty("DTSTART", start);
+                        writer.writeProperty("DURATION", EXAM_DURATION.toString());
+                        writer.writeText("SUMMARY", "Exam: " + exam.getSubject() + " (" + attendee + ")");
+                        writer.end("VEVENT");
+                    }
+                    examCount += exams.size();
+                }
+                for (Group group : model.getAddressBook().getGroupList()) {
+                    lessonCount += writeLessons(writer, group.getId(), group.getLessons(),
+                            group.getName().toString(), today, timeStamp);
+                }
+
+                writer.end("VCALENDAR");
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE, file, ioe.getMessage()), ioe);
+        }
+
+        int exportedLessons = lessonCount;
+        int exportedExams = examCount;
+        logger.info(() -> String.format("Exported %d lessons and %d exams to %s", exportedLessons, exportedExams,
+                file));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lessonCount, examCount, file));
+    }
+
+    /**
+     * Writes an event that repeats weekly for each of the {@code lessons} of {@code owner}, and returns how many
+     * were written.
+     */
+    private static int writeLessons(IcsWriter writer, UniqueId owner, List<Lesson> lessons, String attendee,
+            LocalDate today, String timeStamp) throws IOException {
+        for (Lesson lesson : lessons) {
+            LocalDate firstDate = today.with(TemporalAdjusters.nextOrSame(lesson.getDayOfWeek()));
+            String day = lesson.getDayOfWeek().name().substring(0, 2);
+            LocalTime startTime = lesson.getTimeslot().getStartTime();
+            writer.begin("VEVENT");
+            writer.writeProperty("UID", toUid(owner, "lesson", day + startTime.format(UID_TIME_FORMAT),
+                    lesson.getSubject().toString()));
+            writer.writeProperty("DTSTAMP", timeStamp);
+            writer.writeProperty("DTSTART", firstDate.atTime(startTime).format(LOCAL_DATE_TIME_FORMAT));
+            writer.writeProperty("DTEND",
+                    firstDate.atTime(lesson.getTimeslot().getEndTime()).format(LOCAL_DATE_TIME_FORMAT));
+            writer.writeProperty("RRULE", "FREQ=WEEKLY;BYDAY=" + day);
+            writer.writeText("SUMMARY", lesson.getSubject() + " (" + attendee + ")");
+            writer.end("VEVENT");
+        }
+        return lessons.size();
+    }
+
+    /**
+     * Returns the UID of the event of {@code kind} that {@code owner} has at {@code time} for {@code subject}.
+     * The subject is percent-encoded, so that it cannot run into the other parts.
+     */
+    private static String toUid(UniqueId owner, String kind, String time, String subject) {
+        return owner + "-" + kind + "-" + time + "-" + URLEncoder.encode(subject, StandardCharsets.UTF_8)
+                + UID_DOMAIN;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportScheduleCommand // instanceof handles nulls
+                && file.equals(((ExportScheduleCommand) other).file));
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ViewingType;
+
+/**
+ * Redoes the latest change that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change";
+    public static final String MESSAGE_FAILURE = "There is no undone change to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.redoAddressBook();
+        model.refreshLessonWithAttendeesList();
+        model.setViewingType(ViewingType.SCHEDULE);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
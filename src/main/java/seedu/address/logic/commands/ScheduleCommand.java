@@ -10,6 +10,12 @@ public class ScheduleCommand extends Command {
 
     public static final String COMMAND_WORD = "schedule";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the lessons of all students and groups in the week.\n"
+            + "Add " + ExportScheduleCommand.COMMAND_WORD + " FILE to write them to an iCalendar (.ics) file instead.\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " " + ExportScheduleCommand.COMMAND_WORD
+            + " data/schedule.ics";
+
     public static final String MESSAGE_SUCCESS = "Showing schedule";
 
     @Override
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LatencyStats;
+import seedu.address.commons.core.LatencyStats.Phase;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of the commands run so far took, or clears those timings.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String RESET_FLAG = "-r";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each kind of command has taken, in milliseconds.\n"
+            + "Add " + RESET_FLAG + " to clear the timings.\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " " + RESET_FLAG;
+
+    public static final String MESSAGE_HEADER = "Command timings in ms (p50 / p95 / p99 / max):";
+    public static final String MESSAGE_NO_STATS = "No commands have been timed yet.";
+    public static final String MESSAGE_RESET_SUCCESS = "Command timings have been cleared.";
+
+    private final boolean isReset;
+
+    /**
+     * Creates a {@code StatsCommand} that clears the timings if {@code isReset}, or shows them otherwise.
+     */
+    public StatsCommand(boolean isReset) {
+        this.isReset = isReset;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isReset) {
+            LatencyStats.reset();
+            return new CommandResult(MESSAGE_RESET_SUCCESS);
+        }
+
+        Map<String, Map<Phase, LatencyHistogram>> histograms = LatencyStats.getHistograms();
+        if (histograms.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATS);
+        }
+
+        StringBuilder builder = new StringBuilder(MESSAGE_HEADER);
+        histograms.forEach((commandName, phases) -> {
+            long runCount = phases.values().stream().mapToLong(LatencyHistogram::getTotalCount).max().orElse(0);
+            builder.append(String.format("%n%s (%d run%s)", commandName, runCount, runCount == 1 ? "" : "s"));
+            phases.forEach((phase, histogram) -> builder.append(String.format("%n    %s: %s / %s / %s / %s",
+                    phase, toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(95)),
+                    toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getMaxValue()))));
+        });
+        return new CommandResult(builder.toString());
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1e6);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && isReset == ((StatsCommand) other).isReset);
+    }
+}
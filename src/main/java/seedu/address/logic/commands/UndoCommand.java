@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ViewingType;
+
+/**
+ * Undoes the latest command that changed the address book.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change";
+    public static final String MESSAGE_FAILURE = "There is no change to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.undoAddressBook();
+        model.refreshLessonWithAttendeesList();
+        model.setViewingType(ViewingType.SCHEDULE);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
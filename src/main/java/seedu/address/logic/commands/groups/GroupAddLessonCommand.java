@@ -58,7 +58,6 @@ public class GroupAddLessonCommand extends Command {
         }
         model.setGroup(group, groupWithLesson);
         model.updateLessonWithAttendeesList();
-        model.updateFilteredGroupList(Model.PREDICATE_SHOW_ALL_GROUPS);
         model.setGroupToView(groupWithLesson);
         model.setViewingType(ViewingType.GROUP);
         return new CommandResult(ADD_LESSON_SUCCESS);
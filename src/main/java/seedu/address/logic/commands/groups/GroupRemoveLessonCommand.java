@@ -45,7 +45,6 @@ public class GroupRemoveLessonCommand extends Command {
         Group removedLesson = toRemoveFrom.unassignLesson(lessonIndex.getZeroBased());
 
         model.setGroup(toRemoveFrom, removedLesson);
-        model.updateFilteredGroupList(Model.PREDICATE_SHOW_ALL_GROUPS);
         model.setGroupToView(removedLesson);
         model.setViewingType(ViewingType.GROUP);
         return new CommandResult(MESSAGE_SUCCESS);
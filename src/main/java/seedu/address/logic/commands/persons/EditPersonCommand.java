@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -98,7 +97,6 @@ public class EditPersonCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
         model.updateLessonWithAttendeesList();
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.setPersonToView(editedPerson);
         model.setViewingType(ViewingType.PERSON);
         return new CommandResult(String.format(successMsg, editedPerson));
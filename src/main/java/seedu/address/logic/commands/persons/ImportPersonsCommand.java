@@ -0,0 +1,185 @@
+package seedu.address.logic.commands.persons;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PERSON_COMMAND;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.NoOverlapLessonList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds the students listed in a CSV file to the address book.
+ * <p>
+ * The file is read one row at a time. Each row is checked with the same {@link ParserUtil} methods as
+ * {@code student -a}, and rows that are invalid, or hold a student who is already in the address book or earlier in
+ * the file, are skipped and reported. The other students are then added all at once.
+ */
+public class ImportPersonsCommand extends Command {
+
+    public static final String COMMAND_WORD = "-import";
+
+    public static final String MESSAGE_USAGE = PERSON_COMMAND + " " + COMMAND_WORD
+            + ": Adds the students listed in a CSV file. "
+            + "The first row of the file names the columns: name, phone, email, address and, optionally, tags, "
+            + "which holds tags separated by spaces.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + PERSON_COMMAND + " " + COMMAND_WORD + " data/new_students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students from %2$s in %3$.2f s (%4$.0f rows/s).";
+    public static final String MESSAGE_SKIPPED_ROWS = "Skipped %1$d rows:";
+    public static final String MESSAGE_MORE_SKIPPED_ROWS = "...and %1$d more.";
+    public static final String MESSAGE_CANNOT_READ = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_MISSING_COLUMNS = "The first row of the file must name the columns "
+            + "name, phone, email and address. Missing: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "expected %1$d fields but found %2$d";
+    public static final String MESSAGE_DUPLICATE_ROW = "this student is already in the address book or the file";
+
+    /** The most skipped rows to list in the result; the rest are only counted. */
+    public static final int MAX_SKIPPED_ROWS_SHOWN = 10;
+
+    private static final List<String> REQUIRED_COLUMNS = Arrays.asList("name", "phone", "email", "address");
+    private static final String TAGS_COLUMN = "tags";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportPersonsCommand.class);
+
+    private final Path file;
+
+    /**
+     * Creates an ImportPersonsCommand to add the students listed in {@code file}.
+     */
+    public ImportPersonsCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+
+        Set<List<Object>> identities = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            identities.add(person.getIdentityKey());
+        }
+        List<Person> toAdd = new ArrayList<>();
+        List<String> skippedRows = new ArrayList<>();
+        int rowCount = 0;
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readColumns(reader);
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                rowCount++;
+                try {
+                    Person person = parsePerson(row, columns);
+                    if (!identities.add(person.getIdentityKey())) {
+                        throw new ParseException(MESSAGE_DUPLICATE_ROW);
+                    }
+                    toAdd.add(person);
+                } catch (ParseException pe) {
+                    skippedRows.add("Line " + reader.getRowLineNumber() + ": " + pe.getMessage());
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, file, ioe.getMessage()), ioe);
+        }
+
+        model.addPersons(toAdd);
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        double rowsPerSecond = seconds > 0 ? rowCount / seconds : rowCount;
+        logger.info(() -> String.format("Imported %d of %d rows from %s in %.3f s", toAdd.size(),
+                skippedRows.size() + toAdd.size(), file, seconds));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), file, seconds, rowsPerSecond)
+                + describeSkippedRows(skippedRows));
+    }
+
+    /**
+     * Reads the first row of the file, and returns the index of each column by its name in lower case.
+     */
+    private static Map<String, Integer> readColumns(CsvReader reader) throws IOException, CommandException {
+        List<String> header = reader.readRow();
+        Map<String, Integer> columns = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        List<String> missingColumns = new ArrayList<>(REQUIRED_COLUMNS);
+        missingColumns.removeAll(columns.keySet());
+        if (!missingColumns.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingColumns)));
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the student described by {@code row}, without any tasks, lessons, exams or groups.
+     */
+    private static Person parsePerson(List<String> row, Map<String, Integer> columns) throws ParseException {
+        int lastColumn = columns.values().stream().mapToInt(Integer::intValue).max().getAsInt();
+        if (row.size() <= lastColumn) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, lastColumn + 1, row.size()));
+        }
+        Name name = ParserUtil.parseName(row.get(columns.get("name")));
+        Phone phone = ParserUtil.parsePhone(row.get(columns.get("phone")));
+        Email email = ParserUtil.parseEmail(row.get(columns.get("email")));
+        Address address = ParserUtil.parseAddress(row.get(columns.get("address")));
+        Set<Tag> tags = new HashSet<>();
+        Integer tagsColumn = columns.get(TAGS_COLUMN);
+        if (tagsColumn != null && !row.get(tagsColumn).isBlank()) {
+            tags = ParserUtil.parseTags(Arrays.asList(row.get(tagsColumn).trim().split("\\s+")));
+        }
+        return new Person(name, phone, email, address, tags, new HashSet<>(), new HashMap<>(),
+                new NoOverlapLessonList(), new ArrayList<>(), new HashSet<>());
+    }
+
+    private static String describeSkippedRows(List<String> skippedRows) {
+        if (skippedRows.isEmpty()) {
+            return "";
+        }
+        StringBuilder description = new StringBuilder("\n")
+                .append(String.format(MESSAGE_SKIPPED_ROWS, skippedRows.size()));
+        for (String skippedRow : skippedRows.subList(0, Math.min(skippedRows.size(), MAX_SKIPPED_ROWS_SHOWN))) {
+            description.append('\n').append(skippedRow);
+        }
+        if (skippedRows.size() > MAX_SKIPPED_ROWS_SHOWN) {
+            description.append('\n')
+                    .append(String.format(MESSAGE_MORE_SKIPPED_ROWS, skippedRows.size() - MAX_SKIPPED_ROWS_SHOWN));
+        }
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportPersonsCommand // instanceof handles nulls
+                && file.equals(((ImportPersonsCommand) other).file));
+    }
+}
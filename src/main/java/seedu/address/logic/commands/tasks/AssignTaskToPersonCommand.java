@@ -1,8 +1,6 @@
 package seedu.address.logic.commands.tasks;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.List;
 
@@ -54,8 +52,6 @@ public class AssignTaskToPersonCommand extends AssignTaskCommand {
         Person newPerson = (Person) newTaskAssignable;
 
         model.setPerson(personToEdit, newPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         model.setPersonToView(newPerson);
         model.setViewingType(ViewingType.PERSON);
     }
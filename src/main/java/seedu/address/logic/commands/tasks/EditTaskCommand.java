@@ -3,7 +3,6 @@ package seedu.address.logic.commands.tasks;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.List;
 import java.util.Optional;
@@ -74,7 +73,6 @@ public class EditTaskCommand extends Command {
         }
 
         model.setTask(taskToEdit, editedTask);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         model.updateLessonWithAttendeesList();
         model.setViewingType(ViewingType.SCHEDULE);
         return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, editedTask));
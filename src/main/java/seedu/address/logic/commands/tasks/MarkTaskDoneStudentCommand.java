@@ -2,8 +2,6 @@ package seedu.address.logic.commands.tasks;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.HashMap;
 import java.util.List;
@@ -82,8 +80,6 @@ public class MarkTaskDoneStudentCommand extends Command {
         }
 
         model.setPerson(personToEdit, newPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         model.setPersonToView(newPerson);
         model.setViewingType(ViewingType.PERSON);
 
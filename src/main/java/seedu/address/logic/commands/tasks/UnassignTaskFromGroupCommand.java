@@ -1,8 +1,6 @@
 package seedu.address.logic.commands.tasks;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_GROUPS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.List;
 
@@ -54,8 +52,6 @@ public class UnassignTaskFromGroupCommand extends UnassignTaskCommand {
         Group newGroup = (Group) newTaskAssignable;
 
         model.setGroup(groupToEdit, newGroup);
-        model.updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         model.setGroupToView(newGroup);
         model.setViewingType(ViewingType.GROUP);
     }
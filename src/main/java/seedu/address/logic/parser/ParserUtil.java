@@ -151,7 +151,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.ofTrusted(trimmedName);
     }
 
     /**
@@ -166,7 +166,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.ofTrusted(trimmedPhone);
     }
 
     /**
@@ -181,7 +181,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.ofTrusted(trimmedAddress);
     }
 
     /**
@@ -196,7 +196,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return Email.ofTrusted(trimmedEmail);
     }
 
     /**
@@ -211,7 +211,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.ofTrusted(trimmedTag);
     }
 
     /**
@@ -238,7 +238,7 @@ public class ParserUtil {
         if (!Description.isValidDescription(trimmedDescription)) {
             throw new ParseException(Description.MESSAGE_CONSTRAINTS);
         }
-        return new Description(trimmedDescription);
+        return Description.ofTrusted(trimmedDescription);
     }
 
     /**
@@ -250,10 +250,7 @@ public class ParserUtil {
     public static Deadline parseTaskDeadline(String deadline) throws ParseException {
         requireNonNull(deadline);
         String trimmedDeadline = deadline.trim();
-        if (!Deadline.isValidDeadline(trimmedDeadline)) {
-            throw new ParseException(Deadline.MESSAGE_CONSTRAINTS);
-        }
-        return new Deadline(trimmedDeadline);
+        return Deadline.parse(trimmedDeadline).orElseThrow(() -> new ParseException(Deadline.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -268,7 +265,7 @@ public class ParserUtil {
         if (!Subject.isValidSubject(subject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(subject);
+        return Subject.ofTrusted(subject);
     }
 
     /**
@@ -283,10 +280,7 @@ public class ParserUtil {
         requireNonNull(endTime);
         startTime = startTime.trim();
         endTime = endTime.trim();
-        if (!Timeslot.isValidTimeslot(startTime, endTime)) {
-            throw new ParseException(Timeslot.MESSAGE_CONSTRAINTS);
-        }
-        return new Timeslot(startTime, endTime);
+        return Timeslot.parse(startTime, endTime).orElseThrow(() -> new ParseException(Timeslot.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -361,6 +355,6 @@ public class ParserUtil {
         if (!GroupName.isValidName(trimmedName)) {
             throw new ParseException(GroupName.MESSAGE_CONSTRAINTS);
         }
-        return new GroupName(trimmedName);
+        return GroupName.ofTrusted(trimmedName);
     }
 }
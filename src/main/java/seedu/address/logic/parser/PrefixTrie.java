@@ -0,0 +1,101 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A trie of the prefixes recognised by a parser, for finding which of them (if any) starts at a position in an
+ * arguments string without trying each prefix in turn.
+ * Tries are built once for each set of prefixes and reused, as parsers always tokenize with the same prefixes.
+ */
+class PrefixTrie {
+
+    private static final Map<List<Prefix>, PrefixTrie> tries = new ConcurrentHashMap<>();
+
+    private final Node root = new Node();
+
+    private PrefixTrie(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            add(prefix);
+        }
+    }
+
+    /**
+     * Returns the trie for {@code prefixes}, building it if this is the first time these prefixes are used.
+     */
+    static PrefixTrie of(Prefix... prefixes) {
+        PrefixTrie trie = tries.get(Arrays.asList(prefixes));
+        if (trie == null) {
+            trie = tries.computeIfAbsent(List.of(prefixes), unused -> new PrefixTrie(prefixes));
+        }
+        return trie;
+    }
+
+    /**
+     * Returns the longest prefix that {@code argsString} has at {@code index}, or null if it has none.
+     */
+    Prefix match(String argsString, int index) {
+        Node node = root;
+        Prefix longestMatch = null;
+        for (int i = index; i < argsString.length(); i++) {
+            node = node.getChild(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longestMatch = node.prefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    /**
+     * Adds {@code prefix} to the trie. The empty prefix marks the preamble rather than an argument, so it is ignored.
+     */
+    private void add(Prefix prefix) {
+        String prefixString = prefix.getPrefix();
+        if (prefixString.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < prefixString.length(); i++) {
+            node = node.getOrAddChild(prefixString.charAt(i));
+        }
+        node.prefix = prefix;
+    }
+
+    /**
+     * A node of the trie, reached by the characters on the path from the root.
+     * Prefixes are a few characters long and share little, so children are kept in small arrays.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        /** The prefix spelt by the path to this node, or null if no prefix ends here. */
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExportScheduleCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ScheduleCommand or ExportScheduleCommand object
+ */
+public class ScheduleCommandParser implements Parser<Command> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleCommand
+     * and returns a ScheduleCommand, or an ExportScheduleCommand if the arguments start with
+     * {@code ExportScheduleCommand.COMMAND_WORD}, for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ScheduleCommand();
+        }
+
+        String[] actionAndFile = trimmedArgs.split("\\s+", 2);
+        if (!actionAndFile[0].equals(ExportScheduleCommand.COMMAND_WORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+        if (actionAndFile.length < 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportScheduleCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new ExportScheduleCommand(Paths.get(actionAndFile[1]));
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportScheduleCommand.MESSAGE_USAGE), ipe);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser.persons;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.ValidateUtil.isEmptyOrOnlyWhitespace;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.persons.ImportPersonsCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportPersonsCommand object
+ */
+public class ImportPersonsCommandParser implements Parser<ImportPersonsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportPersonsCommand
+     * and returns an ImportPersonsCommand object for execution.
+     * The whole of the trimmed arguments is taken as the path of the file, so it may contain spaces.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportPersonsCommand parse(String args) throws ParseException {
+        if (isEmptyOrOnlyWhitespace(args)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportPersonsCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new ImportPersonsCommand(Paths.get(args.trim()));
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportPersonsCommand.MESSAGE_USAGE), ipe);
+        }
+    }
+
+}
@@ -12,6 +12,7 @@ import seedu.address.logic.commands.persons.AddPersonCommand;
 import seedu.address.logic.commands.persons.DeletePersonCommand;
 import seedu.address.logic.commands.persons.EditPersonCommand;
 import seedu.address.logic.commands.persons.FindPersonCommand;
+import seedu.address.logic.commands.persons.ImportPersonsCommand;
 import seedu.address.logic.commands.persons.ViewPersonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -67,6 +68,9 @@ public class PersonCommandsParser {
         case PersonRemoveExamParser.COMMAND_WORD:
             return new PersonRemoveExamParser().parse(arguments);
 
+        case ImportPersonsCommand.COMMAND_WORD:
+            return new ImportPersonsCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -14,6 +14,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupWithDetails;
 import seedu.address.model.group.UniqueGroupList;
+import seedu.address.model.id.HasUniqueId;
 import seedu.address.model.id.UniqueId;
 import seedu.address.model.id.UniqueIdMapper;
 import seedu.address.model.lesson.Attendee;
@@ -24,6 +25,7 @@ import seedu.address.model.person.PersonWithDetails;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.UniqueTaskList;
+import seedu.address.model.util.ListSplice;
 
 /**
  * Wraps all data at the address-book level
@@ -37,6 +39,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueGroupList groups;
 
+    private final DetailsCache detailsCache = new DetailsCache();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -68,6 +72,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        detailsCache.clear();
     }
 
     /**
@@ -76,6 +81,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTasks(List<Task> tasks) {
         this.tasks.setTasks(tasks);
+        detailsCache.clear();
     }
 
     /**
@@ -84,6 +90,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGroups(List<Group> groups) {
         this.groups.setGroups(groups);
+        detailsCache.clear();
     }
 
 
@@ -98,6 +105,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         setGroups(newData.getGroupList());
     }
 
+    /**
+     * Holds back notifications of changes to the person, task and group lists until the matching
+     * {@link #endBatch()}, so that listeners receive one change per list for everything done in between.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        tasks.beginBatch();
+        groups.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        persons.endBatch();
+        tasks.endBatch();
+        groups.endBatch();
+    }
+
     //// person-level operations
 
     /**
@@ -116,6 +142,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the address book.
+     * None of them may already exist in the address book, and no two of them may be the same person.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -125,6 +159,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        detailsCache.evict(target.getId());
+        detailsCache.evict(editedPerson.getId());
     }
 
     /**
@@ -137,7 +173,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         UniqueId personId = key.getId();
         persons.remove(key);
         assert !persons.contains(key); // assert removal first, before cleaning up.
-        groups.cleanUpPersonId(personId);
+        detailsCache.evict(personId);
+        detailsCache.evictAll(groups.cleanUpPersonId(personId));
     }
 
     //// task-level operations
@@ -167,6 +204,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedTask);
 
         tasks.setTask(target, editedTask);
+        detailsCache.evict(target.getId());
+        detailsCache.evict(editedTask.getId());
     }
 
     /**
@@ -175,6 +214,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeTask(Task key) {
         tasks.remove(key);
+        detailsCache.evict(key.getId());
     }
 
     //// group-level operations
@@ -204,6 +244,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedGroup);
 
         groups.setGroup(target, editedGroup);
+        detailsCache.evict(target.getId());
+        detailsCache.evict(editedGroup.getId());
     }
 
     /**
@@ -214,7 +256,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         UniqueId groupId = key.getId();
         groups.remove(key);
         assert !groups.contains(key); // assert removal first, before cleaning up.
-        persons.cleanUpGroupId(groupId);
+        detailsCache.evict(groupId);
+        detailsCache.evictAll(persons.cleanUpGroupId(groupId));
+    }
+
+    //// history operations
+
+    /**
+     * Makes the changes in {@code splices}, in order, to the person list.
+     * The splices are ones recorded from this address book, and are made without checking for duplicates.
+     */
+    void applyPersonSplices(List<ListSplice<Person>> splices) {
+        applySplices(splices, persons::replaceRange);
+    }
+
+    /**
+     * Makes the changes in {@code splices}, in order, to the task list.
+     * The splices are ones recorded from this address book, and are made without checking for duplicates.
+     */
+    void applyTaskSplices(List<ListSplice<Task>> splices) {
+        applySplices(splices, tasks::replaceRange);
+    }
+
+    /**
+     * Makes the changes in {@code splices}, in order, to the group list.
+     * The splices are ones recorded from this address book, and are made without checking for duplicates.
+     */
+    void applyGroupSplices(List<ListSplice<Group>> splices) {
+        applySplices(splices, groups::replaceRange);
+    }
+
+    private <T extends HasUniqueId> void applySplices(List<ListSplice<T>> splices, RangeReplacer<T> list) {
+        for (ListSplice<T> splice : splices) {
+            list.replaceRange(splice.getFrom(), splice.getRemoved().size(), splice.getAdded());
+            splice.getRemoved().forEach(item -> detailsCache.evict(item.getId()));
+            splice.getAdded().forEach(item -> detailsCache.evict(item.getId()));
+        }
+    }
+
+    /**
+     * The {@code replaceRange} method of one of the unique lists.
+     */
+    @FunctionalInterface
+    private interface RangeReplacer<T> {
+        void replaceRange(int from, int removedCount, List<T> added);
     }
 
     public UniqueIdMapper<Person> getPersonMapper() {
@@ -225,7 +310,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return groups;
     }
 
+    /**
+     * Returns {@code person} with the groups and tasks it is assigned.
+     * The details are kept and returned again until one of the persons, groups or tasks in them changes.
+     */
     public PersonWithDetails getPersonWithDetails(Person person) {
+        PersonWithDetails cached = detailsCache.getPersonWithDetails(person);
+        if (cached != null) {
+            return cached;
+        }
         Set<GroupWithDetails> groupsPersonIsIn = groups.getFromUniqueIds(person.getAssignedGroupIds()).stream()
                 .map(this::getGroupWithDetails)
                 .collect(Collectors.toSet());
@@ -238,13 +331,25 @@ public class AddressBook implements ReadOnlyAddressBook {
             assert !isDone.equals(null);
             tasksCompletion.put(task, isDone);
         });
-        return new PersonWithDetails(person, groupsPersonIsIn, tasksPersonHas, tasksCompletion);
+        PersonWithDetails details = new PersonWithDetails(person, groupsPersonIsIn, tasksPersonHas, tasksCompletion);
+        detailsCache.putPersonWithDetails(details);
+        return details;
     }
 
+    /**
+     * Returns {@code group} with the students and tasks it is assigned.
+     * The details are kept and returned again until one of the persons, groups or tasks in them changes.
+     */
     public GroupWithDetails getGroupWithDetails(Group group) {
+        GroupWithDetails cached = detailsCache.getGroupWithDetails(group);
+        if (cached != null) {
+            return cached;
+        }
         Set<Person> studentsInGroup = persons.getFromUniqueIds(group.getAssignedPersonIds());
         Set<Task> tasksInGroup = tasks.getFromUniqueIds(group.getAssignedTaskIds());
-        return new GroupWithDetails(group, studentsInGroup, tasksInGroup);
+        GroupWithDetails details = new GroupWithDetails(group, studentsInGroup, tasksInGroup);
+        detailsCache.putGroupWithDetails(details);
+        return details;
     }
 
     //// util methods
@@ -0,0 +1,176 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.ListSplice;
+
+/**
+ * The changes made to an {@link AddressBook}, grouped into steps that can be undone and redone.
+ * <p>
+ * A step holds the splices made to the person, task and group lists between two calls to {@link #commit()}, which
+ * are the same splices {@link ModelManager} builds its {@link PersistentList} versions from. Undoing or redoing a
+ * step makes just those splices again, so either costs about as much as the command that made the step, however
+ * many entries the address book has.
+ * <p>
+ * The history keeps at most {@code maxSteps} steps, which together may hold at most {@code maxHeldEntries}
+ * references to persons, tasks and groups, counting both the entries a step removed and those it added. When
+ * either limit is passed, the oldest steps are forgotten. The latest step is always kept, so that even a command
+ * that changes every entry, like {@code clear}, can be undone.
+ */
+class AddressBookHistory {
+
+    static final int DEFAULT_MAX_STEPS = 100;
+    static final long DEFAULT_MAX_HELD_ENTRIES = 1_000_000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookHistory.class);
+
+    private final int maxSteps;
+    private final long maxHeldEntries;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private Step pendingStep = new Step();
+    private long heldEntryCount;
+
+    AddressBookHistory() {
+        this(DEFAULT_MAX_STEPS, DEFAULT_MAX_HELD_ENTRIES);
+    }
+
+    AddressBookHistory(int maxSteps, long maxHeldEntries) {
+        assert maxSteps > 0 && maxHeldEntries >= 0;
+        this.maxSteps = maxSteps;
+        this.maxHeldEntries = maxHeldEntries;
+    }
+
+    void recordPersonSplices(List<ListSplice<Person>> splices) {
+        pendingStep.personSplices.addAll(splices);
+        pendingStep.entryCount += countEntries(splices);
+    }
+
+    void recordTaskSplices(List<ListSplice<Task>> splices) {
+        pendingStep.taskSplices.addAll(splices);
+        pendingStep.entryCount += countEntries(splices);
+    }
+
+    void recordGroupSplices(List<ListSplice<Group>> splices) {
+        pendingStep.groupSplices.addAll(splices);
+        pendingStep.entryCount += countEntries(splices);
+    }
+
+    /**
+     * Saves the splices recorded since the last commit as a step, if there are any. As this starts a new line of
+     * changes, the steps that were undone can no longer be redone.
+     */
+    void commit() {
+        if (pendingStep.isEmpty()) {
+            return;
+        }
+        Step step = pendingStep;
+        pendingStep = new Step();
+        redoSteps.forEach(redoStep -> heldEntryCount -= redoStep.entryCount);
+        redoSteps.clear();
+        undoSteps.addLast(step);
+        heldEntryCount += step.entryCount;
+
+        while (undoSteps.size() > 1 && (undoSteps.size() > maxSteps || heldEntryCount > maxHeldEntries)) {
+            heldEntryCount -= undoSteps.removeFirst().entryCount;
+        }
+        logger.fine(() -> "Saved a step of " + step.entryCount + " entries; the history holds " + undoSteps.size()
+                + " steps and " + heldEntryCount + " entries");
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    /**
+     * Returns true if a step has been undone, and nothing has been recorded since.
+     */
+    boolean canRedo() {
+        return pendingStep.isEmpty() && !redoSteps.isEmpty();
+    }
+
+    /**
+     * Takes {@code addressBook} back to how it was before the latest step that has not been undone.
+     * Any splices recorded since the last commit are committed first. The changes made by undoing are not recorded.
+     */
+    void undo(AddressBook addressBook) {
+        commit();
+        Step step = undoSteps.removeLast();
+        step.undo(addressBook);
+        redoSteps.addLast(step);
+    }
+
+    /**
+     * Makes the latest undone step again on {@code addressBook}. The changes made by redoing are not recorded.
+     */
+    void redo(AddressBook addressBook) {
+        assert canRedo();
+        Step step = redoSteps.removeLast();
+        step.redo(addressBook);
+        undoSteps.addLast(step);
+    }
+
+    /**
+     * Returns the number of references to persons, tasks and groups held by the steps that can be undone or redone.
+     */
+    long getHeldEntryCount() {
+        return heldEntryCount;
+    }
+
+    int getStepCount() {
+        return undoSteps.size() + redoSteps.size();
+    }
+
+    private static long countEntries(List<? extends ListSplice<?>> splices) {
+        long count = 0;
+        for (ListSplice<?> splice : splices) {
+            count += splice.getRemoved().size() + splice.getAdded().size();
+        }
+        return count;
+    }
+
+    /**
+     * The splices made to each list of the address book by one step.
+     */
+    private static class Step {
+        private final List<ListSplice<Person>> personSplices = new ArrayList<>();
+        private final List<ListSplice<Task>> taskSplices = new ArrayList<>();
+        private final List<ListSplice<Group>> groupSplices = new ArrayList<>();
+        private long entryCount;
+
+        boolean isEmpty() {
+            return personSplices.isEmpty() && taskSplices.isEmpty() && groupSplices.isEmpty();
+        }
+
+        void undo(AddressBook addressBook) {
+            addressBook.applyPersonSplices(inverse(personSplices));
+            addressBook.applyTaskSplices(inverse(taskSplices));
+            addressBook.applyGroupSplices(inverse(groupSplices));
+        }
+
+        void redo(AddressBook addressBook) {
+            addressBook.applyPersonSplices(personSplices);
+            addressBook.applyTaskSplices(taskSplices);
+            addressBook.applyGroupSplices(groupSplices);
+        }
+
+        /**
+         * Returns the splices that undo {@code splices}, in the order they have to be made.
+         */
+        private static <T> List<ListSplice<T>> inverse(List<ListSplice<T>> splices) {
+            List<ListSplice<T>> inverses = new ArrayList<>(splices.size());
+            for (int i = splices.size() - 1; i >= 0; i--) {
+                inverses.add(splices.get(i).inverse());
+            }
+            return inverses;
+        }
+    }
+}
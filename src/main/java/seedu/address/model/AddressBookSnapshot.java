@@ -0,0 +1,209 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupWithDetails;
+import seedu.address.model.id.HasUniqueId;
+import seedu.address.model.id.UniqueId;
+import seedu.address.model.id.exceptions.IdNotFoundException;
+import seedu.address.model.lesson.Attendee;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonWithAttendees;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonWithDetails;
+import seedu.address.model.task.Task;
+
+/**
+ * An unchangeable copy of an address book as it was at one point in time.
+ * As nothing in a snapshot changes after it is made, it can be read from any thread without locking, while the
+ * address book it was copied from goes on changing.
+ * <p>
+ * The snapshots that {@link ModelManager} publishes after each command are made from {@link PersistentList}s, so
+ * each shares most of its storage with the one before, and making one costs little even for a large address book.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Task> tasks;
+    private final ObservableList<Group> groups;
+
+    // Built on first use. Two threads may both build one, which is harmless as they build the same thing.
+    private volatile Map<UniqueId, Person> personsById;
+    private volatile Map<UniqueId, Task> tasksById;
+    private volatile Map<UniqueId, Group> groupsById;
+    private volatile List<LessonWithAttendees> sortedLessonsWithAttendees;
+
+    /**
+     * Creates a snapshot of these lists, which must not be changed afterwards.
+     */
+    AddressBookSnapshot(List<Person> persons, List<Task> tasks, List<Group> groups) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.tasks = FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+        this.groups = FXCollections.unmodifiableObservableList(FXCollections.observableList(groups));
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        return new AddressBookSnapshot(PersistentList.copyOf(addressBook.getPersonList()),
+                PersistentList.copyOf(addressBook.getTaskList()), PersistentList.copyOf(addressBook.getGroupList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public ObservableList<Group> getGroupList() {
+        return groups;
+    }
+
+    /**
+     * Returns {@code person} with the groups and tasks it is assigned, as in {@link AddressBook#getPersonWithDetails}.
+     *
+     * @throws IdNotFoundException if {@code person} refers to a group or task that is not in this snapshot.
+     */
+    public PersonWithDetails getPersonWithDetails(Person person) {
+        Set<GroupWithDetails> groupsPersonIsIn = getFromUniqueIds(person.getAssignedGroupIds(), getGroupsById())
+                .stream()
+                .map(this::getGroupWithDetails)
+                .collect(Collectors.toSet());
+        Set<Task> tasksPersonHas = getFromUniqueIds(person.getAssignedTaskIds(), getTasksById());
+        Map<Task, Boolean> tasksCompletion = new HashMap<>();
+        Map<UniqueId, Boolean> tasksCompletionId = person.getTasksCompletion();
+        tasksPersonHas.forEach(task -> tasksCompletion.put(task, tasksCompletionId.get(task.getId())));
+        return new PersonWithDetails(person, groupsPersonIsIn, tasksPersonHas, tasksCompletion);
+    }
+
+    /**
+     * Returns {@code group} with the students and tasks it is assigned, as in {@link AddressBook#getGroupWithDetails}.
+     *
+     * @throws IdNotFoundException if {@code group} refers to a student or task that is not in this snapshot.
+     */
+    public GroupWithDetails getGroupWithDetails(Group group) {
+        Set<Person> studentsInGroup = getFromUniqueIds(group.getAssignedPersonIds(), getPersonsById());
+        Set<Task> tasksInGroup = getFromUniqueIds(group.getAssignedTaskIds(), getTasksById());
+        return new GroupWithDetails(group, studentsInGroup, tasksInGroup);
+    }
+
+    @Override
+    public List<LessonWithAttendees> getSortedLessonsWithAttendees() {
+        List<LessonWithAttendees> lessons = sortedLessonsWithAttendees;
+        if (lessons == null) {
+            lessons = Collections.unmodifiableList(buildSortedLessonsWithAttendees());
+            sortedLessonsWithAttendees = lessons;
+        }
+        return lessons;
+    }
+
+    private List<LessonWithAttendees> buildSortedLessonsWithAttendees() {
+        List<LessonWithAttendees> lessons = new ArrayList<>();
+        for (Person person : persons) {
+            List<Attendee> attendees = List.of(person);
+            for (Lesson lesson : person.getLessons()) {
+                lessons.add(new LessonWithAttendees(lesson, attendees));
+            }
+        }
+        for (Group group : groups) {
+            if (group.getLessons().isEmpty()) {
+                continue;
+            }
+            List<Attendee> attendees = new ArrayList<>(getFromUniqueIds(group.getAssignedPersonIds(),
+                    getPersonsById()));
+            for (Lesson lesson : group.getLessons()) {
+                lessons.add(new LessonWithAttendees(lesson, attendees));
+            }
+        }
+        lessons.sort(new LessonWithAttendees.SortByLesson());
+        return lessons;
+    }
+
+    private Map<UniqueId, Person> getPersonsById() {
+        Map<UniqueId, Person> map = personsById;
+        if (map == null) {
+            map = mapById(persons);
+            personsById = map;
+        }
+        return map;
+    }
+
+    private Map<UniqueId, Task> getTasksById() {
+        Map<UniqueId, Task> map = tasksById;
+        if (map == null) {
+            map = mapById(tasks);
+            tasksById = map;
+        }
+        return map;
+    }
+
+    private Map<UniqueId, Group> getGroupsById() {
+        Map<UniqueId, Group> map = groupsById;
+        if (map == null) {
+            map = mapById(groups);
+            groupsById = map;
+        }
+        return map;
+    }
+
+    private static <T extends HasUniqueId> Map<UniqueId, T> mapById(List<T> items) {
+        Map<UniqueId, T> map = new HashMap<>(items.size() * 4 / 3 + 1);
+        for (T item : items) {
+            map.put(item.getId(), item);
+        }
+        return map;
+    }
+
+    private static <T> Set<T> getFromUniqueIds(Set<UniqueId> ids, Map<UniqueId, T> itemsById) {
+        Set<T> items = new HashSet<>();
+        for (UniqueId id : ids) {
+            T item = itemsById.get(id);
+            if (item == null) {
+                throw new IdNotFoundException(id);
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tasks.size() + " tasks, " + groups.size() + " groups";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && persons.equals(((AddressBookSnapshot) other).persons)
+                && tasks.equals(((AddressBookSnapshot) other).tasks)
+                && groups.equals(((AddressBookSnapshot) other).groups));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+}
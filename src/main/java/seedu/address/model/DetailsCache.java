@@ -0,0 +1,167 @@
+package seedu.address.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupWithDetails;
+import seedu.address.model.id.UniqueId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonWithDetails;
+import seedu.address.model.task.Task;
+
+/**
+ * The {@code PersonWithDetails} and {@code GroupWithDetails} an {@link AddressBook} has made, kept by the id of the
+ * person or group they are about until a person, group or task they were made from changes.
+ * <p>
+ * For every id, the cache remembers which of its entries were made using the person, group or task with that id.
+ * The address book calls {@link #evict(UniqueId)} with the ids of whatever it changes, which drops just those
+ * entries, and stops listing them under the other ids they were made using.
+ * <p>
+ * Only the details that were most recently used are kept, at most {@value #MAX_ENTRIES} of persons and as many of
+ * groups, as the app shows the details of one person or group at a time.
+ */
+class DetailsCache {
+
+    /** The most entries kept of each kind. */
+    static final int MAX_ENTRIES = 16;
+
+    /** For each id, the entries that were made using the person, group or task with that id. */
+    private final Map<UniqueId, Set<UniqueId>> dependents = new HashMap<>();
+    /** For each entry, the ids it is listed under in {@code dependents}. */
+    private final Map<UniqueId, Set<UniqueId>> dependencies = new HashMap<>();
+    private final Map<UniqueId, PersonWithDetails> personDetails = newLeastRecentlyUsedMap();
+    private final Map<UniqueId, GroupWithDetails> groupDetails = newLeastRecentlyUsedMap();
+
+    /**
+     * Returns the cached details of {@code person}, or null if there are none for this version of it.
+     */
+    PersonWithDetails getPersonWithDetails(Person person) {
+        PersonWithDetails details = personDetails.get(person.getId());
+        return details != null && isSame(details.getPerson(), person) ? details : null;
+    }
+
+    /**
+     * Returns the cached details of {@code group}, or null if there are none for this version of it.
+     */
+    GroupWithDetails getGroupWithDetails(Group group) {
+        GroupWithDetails details = groupDetails.get(group.getId());
+        return details != null && isSame(details.getGroup(), group) ? details : null;
+    }
+
+    /**
+     * Caches {@code details}, which must include the details of each of the person's groups.
+     */
+    void putPersonWithDetails(PersonWithDetails details) {
+        UniqueId personId = details.getPerson().getId();
+        removeDependencies(personId);
+        personDetails.put(personId, details);
+        addDependent(personId, personId);
+        for (Task task : details.getTasks()) {
+            addDependent(task.getId(), personId);
+        }
+        for (GroupWithDetails group : details.getGroups()) {
+            addDependents(group, personId);
+        }
+    }
+
+    /**
+     * Caches {@code details}.
+     */
+    void putGroupWithDetails(GroupWithDetails details) {
+        UniqueId groupId = details.getGroup().getId();
+        removeDependencies(groupId);
+        groupDetails.put(groupId, details);
+        addDependents(details, groupId);
+    }
+
+    /**
+     * Drops every entry that was made using the person, group or task with {@code id}.
+     */
+    void evict(UniqueId id) {
+        Set<UniqueId> stale = dependents.remove(id);
+        if (stale == null) {
+            return;
+        }
+        for (UniqueId staleId : stale) {
+            personDetails.remove(staleId);
+            groupDetails.remove(staleId);
+            removeDependencies(staleId);
+        }
+    }
+
+    /**
+     * Drops every entry made using any of the persons, groups or tasks with {@code ids}.
+     */
+    void evictAll(Set<UniqueId> ids) {
+        ids.forEach(this::evict);
+    }
+
+    /**
+     * Drops all entries.
+     */
+    void clear() {
+        personDetails.clear();
+        groupDetails.clear();
+        dependents.clear();
+        dependencies.clear();
+    }
+
+    /**
+     * Records that the entry with {@code dependentId} was made using {@code group} and everything in it.
+     */
+    private void addDependents(GroupWithDetails group, UniqueId dependentId) {
+        addDependent(group.getGroup().getId(), dependentId);
+        for (Person person : group.getPersons()) {
+            addDependent(person.getId(), dependentId);
+        }
+        for (Task task : group.getTasks()) {
+            addDependent(task.getId(), dependentId);
+        }
+    }
+
+    private void addDependent(UniqueId id, UniqueId dependentId) {
+        dependents.computeIfAbsent(id, unused -> new HashSet<>()).add(dependentId);
+        dependencies.computeIfAbsent(dependentId, unused -> new HashSet<>()).add(id);
+    }
+
+    private void removeDependent(UniqueId id, UniqueId dependentId) {
+        Set<UniqueId> ids = dependents.get(id);
+        if (ids != null && ids.remove(dependentId) && ids.isEmpty()) {
+            dependents.remove(id);
+        }
+    }
+
+    /**
+     * Stops listing the entry with {@code dependentId}, which has been dropped, under the ids it was made using.
+     */
+    private void removeDependencies(UniqueId dependentId) {
+        Set<UniqueId> ids = dependencies.remove(dependentId);
+        if (ids != null) {
+            ids.forEach(id -> removeDependent(id, dependentId));
+        }
+    }
+
+    /**
+     * Returns a map that drops the entry used least recently once it holds more than {@value #MAX_ENTRIES}.
+     */
+    private <V> Map<UniqueId, V> newLeastRecentlyUsedMap() {
+        return new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UniqueId, V> eldest) {
+                if (size() <= MAX_ENTRIES) {
+                    return false;
+                }
+                removeDependencies(eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    private static boolean isSame(Object cached, Object requested) {
+        return cached == requested || cached.equals(requested);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.value.ObservableValue;
@@ -65,6 +66,57 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Makes the current contents of the address book those returned by {@link #getAddressBookSnapshot()}.
+     * This is done once a command has finished changing the address book, so that it is never seen half-changed.
+     */
+    void publishAddressBookSnapshot();
+
+    /**
+     * Returns the address book as it was when it was last published, which may be read from any thread.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Starts a batch of changes to the address book. Until the batch ends, the changes are made as usual, but the
+     * listeners of the person, task and group lists (such as the UI) are not told of them. When it ends, each list
+     * tells its listeners of everything that changed at once.
+     * Every call must be matched by a call to {@link #endBatch()}, even if the changes fail part way.
+     */
+    void beginBatch();
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    void endBatch();
+
+    /**
+     * Saves the changes made to the address book since the last call as one step that can be undone.
+     * Does nothing if there were no changes.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a saved step that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if a step has been undone and can be made again.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Takes the address book back to how it was before the latest step that has not been undone.
+     * {@link #canUndoAddressBook()} must be true.
+     */
+    void undoAddressBook();
+
+    /**
+     * Makes the latest undone step again. {@link #canRedoAddressBook()} must be true.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -79,9 +131,17 @@ public interface Model {
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * If the filter of the filtered person list would hide it, the filter is cleared so that it is shown.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, all at once.
+     * None of them may already exist in the address book, and no two of them may be the same person.
+     * If the filter of the filtered person list would hide any of them, the filter is cleared.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +154,7 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filter stays in place as persons are changed. Giving the filter already in use does nothing.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
@@ -112,6 +173,7 @@ public interface Model {
     /**
      * Adds the given task.
      * {@code task} must not already exist in the address book.
+     * If the filter of the filtered task list would hide it, the filter is cleared so that it is shown.
      */
     void addTask(Task task);
 
@@ -127,6 +189,7 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered task list to filter by the given {@code predicate}.
+     * The filter stays in place as tasks are changed. Giving the filter already in use does nothing.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
@@ -145,6 +208,7 @@ public interface Model {
     /**
      * Adds the given group.
      * {@code group} must not already exist in the address book.
+     * If the filter of the filtered group list would hide it, the filter is cleared so that it is shown.
      */
     void addGroup(Group group);
 
@@ -160,6 +224,7 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered group list to filter by the given {@code predicate}.
+     * The filter stays in place as groups are changed. Giving the filter already in use does nothing.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredGroupList(Predicate<Group> predicate);
@@ -175,6 +240,12 @@ public interface Model {
      */
     void updateLessonWithAttendeesList();
 
+    /**
+     * Updates the lesson with attendees list only if a lesson or the name of an attendee has changed since it was
+     * last updated, so that it costs nothing when the schedule is unchanged.
+     */
+    void refreshLessonWithAttendeesList();
+
     /**
      * Gets the current viewing type of the model.
      * Viewing type is used to determine what the user is viewing in the panel.
@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,10 +15,14 @@ import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LatencyStats;
+import seedu.address.commons.core.LatencyStats.Phase;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.ScheduleRebuiltEvent;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupWithDetails;
 import seedu.address.model.id.UniqueIdMapper;
@@ -22,6 +30,7 @@ import seedu.address.model.lesson.LessonWithAttendees;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonWithDetails;
 import seedu.address.model.task.Task;
+import seedu.address.model.util.ListSplice;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -36,10 +45,26 @@ public class ModelManager implements Model {
     private final FilteredList<Group> filteredGroups;
 
     private final ObservableList<LessonWithAttendees> lessonWithAttendees;
+    /** True if a lesson or the name of an attendee has changed since {@code lessonWithAttendees} was last built. */
+    private boolean isScheduleStale;
     private final ObjectProperty<PersonWithDetails> personWithDetails;
     private final ObjectProperty<GroupWithDetails> groupWithDetails;
     private final ObjectProperty<ViewingType> viewType;
 
+    // The contents of addressBook, kept up to date as it changes, for making snapshots of it cheaply.
+    private PersistentList<Person> personsVersion;
+    private PersistentList<Task> tasksVersion;
+    private PersistentList<Group> groupsVersion;
+    private boolean hasUnpublishedChanges;
+    private volatile AddressBookSnapshot addressBookSnapshot;
+
+    /** The number of batches started by {@link #beginBatch()} that have not ended yet. */
+    private int batchDepth;
+
+    private final AddressBookHistory history = new AddressBookHistory();
+    /** True while the history is changing the address book, so that its changes are not recorded again. */
+    private boolean isRestoringHistory;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -47,17 +72,48 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredTasks = new FilteredList<>(this.addressBook.getTaskList());
-        filteredGroups = new FilteredList<>(this.addressBook.getGroupList());
+        filteredPersons = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        filteredTasks = new FilteredList<>(this.addressBook.getTaskList(), PREDICATE_SHOW_ALL_TASKS);
+        filteredGroups = new FilteredList<>(this.addressBook.getGroupList(), PREDICATE_SHOW_ALL_GROUPS);
         lessonWithAttendees = FXCollections.observableArrayList(this.addressBook.getSortedLessonsWithAttendees());
         viewType = new SimpleObjectProperty<>(ViewingType.SCHEDULE);
         personWithDetails = new SimpleObjectProperty<>(null);
         groupWithDetails = new SimpleObjectProperty<>(null);
+
+        personsVersion = PersistentList.copyOf(this.addressBook.getPersonList());
+        tasksVersion = PersistentList.copyOf(this.addressBook.getTaskList());
+        groupsVersion = PersistentList.copyOf(this.addressBook.getGroupList());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            List<ListSplice<Person>> splices = ListSplice.of(change);
+            personsVersion = applySplices(personsVersion, splices);
+            if (!isRestoringHistory) {
+                history.recordPersonSplices(splices);
+            }
+            isScheduleStale = isScheduleStale || changesSchedule(splices, ModelManager::getScheduleKey);
+            hasUnpublishedChanges = true;
+        });
+        this.addressBook.getTaskList().addListener((ListChangeListener<Task>) change -> {
+            List<ListSplice<Task>> splices = ListSplice.of(change);
+            tasksVersion = applySplices(tasksVersion, splices);
+            if (!isRestoringHistory) {
+                history.recordTaskSplices(splices);
+            }
+            hasUnpublishedChanges = true;
+        });
+        this.addressBook.getGroupList().addListener((ListChangeListener<Group>) change -> {
+            List<ListSplice<Group>> splices = ListSplice.of(change);
+            groupsVersion = applySplices(groupsVersion, splices);
+            if (!isRestoringHistory) {
+                history.recordGroupSplices(splices);
+            }
+            isScheduleStale = isScheduleStale || changesSchedule(splices, ModelManager::getScheduleKey);
+            hasUnpublishedChanges = true;
+        });
+        addressBookSnapshot = new AddressBookSnapshot(personsVersion, tasksVersion, groupsVersion);
     }
 
     public ModelManager() {
@@ -111,6 +167,146 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void publishAddressBookSnapshot() {
+        if (hasUnpublishedChanges) {
+            addressBookSnapshot = new AddressBookSnapshot(personsVersion, tasksVersion, groupsVersion);
+            hasUnpublishedChanges = false;
+        }
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBookSnapshot;
+    }
+
+    @Override
+    public void beginBatch() {
+        addressBook.beginBatch();
+        batchDepth++;
+    }
+
+    @Override
+    public void endBatch() {
+        assert batchDepth > 0 : "endBatch() called without beginBatch()";
+        batchDepth--;
+        addressBook.endBatch();
+    }
+
+    /**
+     * Tells the listeners of the address book's lists about the changes made so far in the current batches, if any.
+     * A filtered list must be up to date with its source before it is given a new predicate, or it would apply the
+     * held back changes a second time when they arrive. Likewise, the history must have recorded the changes before
+     * it saves, undoes or redoes a step.
+     */
+    private void flushBatch() {
+        for (int i = 0; i < batchDepth; i++) {
+            addressBook.endBatch();
+        }
+        for (int i = 0; i < batchDepth; i++) {
+            addressBook.beginBatch();
+        }
+    }
+
+    /**
+     * Returns true if {@code splices} change what the schedule shows, which is the case unless they remove and add
+     * entries with the same {@code scheduleKey}s, such as when a student's phone number is edited or the list is
+     * sorted. Entries with a null key do not appear in the schedule. This takes time in the size of the splices only.
+     */
+    private static <T> boolean changesSchedule(List<ListSplice<T>> splices, Function<T, Object> scheduleKey) {
+        Map<Object, Integer> keyCounts = new HashMap<>();
+        for (ListSplice<T> splice : splices) {
+            for (T removed : splice.getRemoved()) {
+                Object key = scheduleKey.apply(removed);
+                if (key != null) {
+                    keyCounts.merge(key, 1, Integer::sum);
+                }
+            }
+            for (T added : splice.getAdded()) {
+                Object key = scheduleKey.apply(added);
+                if (key != null) {
+                    keyCounts.merge(key, -1, Integer::sum);
+                }
+            }
+        }
+        return keyCounts.values().stream().anyMatch(count -> count != 0);
+    }
+
+    /**
+     * Returns what of {@code person} the schedule shows: their lessons, and their name as an attendee of those and
+     * of the lessons of their groups. Returns null if the person has neither lessons nor groups.
+     */
+    private static Object getScheduleKey(Person person) {
+        if (person.getLessons().isEmpty() && person.getAssignedGroupIds().isEmpty()) {
+            return null;
+        }
+        return List.of(person.getId(), person.getName(), person.getLessons());
+    }
+
+    /**
+     * Returns what of {@code group} the schedule shows: its lessons and who attends them. Returns null if the group
+     * has no lessons.
+     */
+    private static Object getScheduleKey(Group group) {
+        if (group.getLessons().isEmpty()) {
+            return null;
+        }
+        return List.of(group.getId(), group.getLessons(), group.getAssignedPersonIds());
+    }
+
+    /**
+     * Returns {@code list} with the changes in {@code splices} made to it.
+     */
+    private static <T> PersistentList<T> applySplices(PersistentList<T> list, List<ListSplice<T>> splices) {
+        PersistentList<T> changedList = list;
+        for (ListSplice<T> splice : splices) {
+            changedList = changedList.splice(splice.getFrom(), splice.getRemoved().size(), splice.getAdded());
+        }
+        return changedList;
+    }
+
+    @Override
+    public void commitAddressBook() {
+        flushBatch();
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        flushBatch();
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        flushBatch();
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        flushBatch();
+        isRestoringHistory = true;
+        try {
+            history.undo(addressBook);
+            flushBatch();
+        } finally {
+            isRestoringHistory = false;
+        }
+    }
+
+    @Override
+    public void redoAddressBook() {
+        flushBatch();
+        isRestoringHistory = true;
+        try {
+            history.redo(addressBook);
+            flushBatch();
+        } finally {
+            isRestoringHistory = false;
+        }
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -125,7 +321,17 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        if (!filteredPersons.getPredicate().test(person)) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+        if (!persons.stream().allMatch(filteredPersons.getPredicate())) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     @Override
@@ -148,7 +354,9 @@ public class ModelManager implements Model {
     @Override
     public void addTask(Task task) {
         addressBook.addTask(task);
-        updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        if (!filteredTasks.getPredicate().test(task)) {
+            updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        }
     }
 
     @Override
@@ -172,7 +380,9 @@ public class ModelManager implements Model {
     @Override
     public void addGroup(Group group) {
         addressBook.addGroup(group);
-        updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
+        if (!filteredGroups.getPredicate().test(group)) {
+            updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
+        }
     }
 
     @Override
@@ -196,6 +406,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate.equals(filteredPersons.getPredicate())) {
+            return;
+        }
+        flushBatch();
         filteredPersons.setPredicate(predicate);
     }
 
@@ -213,6 +427,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
+        if (predicate.equals(filteredTasks.getPredicate())) {
+            return;
+        }
+        flushBatch();
         filteredTasks.setPredicate(predicate);
     }
 
@@ -230,6 +448,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredGroupList(Predicate<Group> predicate) {
         requireNonNull(predicate);
+        if (predicate.equals(filteredGroups.getPredicate())) {
+            return;
+        }
+        flushBatch();
         filteredGroups.setPredicate(predicate);
     }
 
@@ -252,7 +474,21 @@ public class ModelManager implements Model {
 
     @Override
     public void updateLessonWithAttendeesList() {
+        ScheduleRebuiltEvent event = new ScheduleRebuiltEvent();
+        event.begin();
+        long startTime = System.nanoTime();
         lessonWithAttendees.setAll(addressBook.getSortedLessonsWithAttendees());
+        isScheduleStale = false;
+        LatencyStats.record(Phase.SCHEDULE_REBUILD, System.nanoTime() - startTime);
+        event.setLessonCount(lessonWithAttendees.size());
+        event.commit();
+    }
+
+    @Override
+    public void refreshLessonWithAttendeesList() {
+        if (isScheduleStale) {
+            updateLessonWithAttendeesList();
+        }
     }
 
     @Override
@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An unchangeable list, which is "changed" by making a new list that shares most of its storage with the old one.
+ * <p>
+ * The elements are kept in chunks of up to {@value #MAX_CHUNK_SIZE}. A change copies the chunks it touches and the
+ * (much shorter) array of chunks, and shares every other chunk with the old list. Changing a list of {@code n}
+ * elements therefore copies about {@code n / MAX_CHUNK_SIZE + MAX_CHUNK_SIZE} references instead of {@code n},
+ * and the old list can still be read, from any thread, while and after the new one is made.
+ */
+final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    static final int MAX_CHUNK_SIZE = 64;
+
+    /** Chunks smaller than this are merged with the next chunk when they are changed. */
+    private static final int MIN_CHUNK_SIZE = MAX_CHUNK_SIZE / 4;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Object[0][], new int[] {0});
+
+    private final Object[][] chunks;
+    /** {@code offsets[i]} is the index of the first element of {@code chunks[i]}, and the last offset is the size. */
+    private final int[] offsets;
+
+    private PersistentList(Object[][] chunks, int[] offsets) {
+        this.chunks = chunks;
+        this.offsets = offsets;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in the order they are iterated.
+     */
+    static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        return PersistentList.<E>empty().splice(0, 0, new ArrayList<>(elements));
+    }
+
+    @Override
+    public int size() {
+        return offsets[chunks.length];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        int chunk = findChunk(index);
+        return (E) chunks[chunk][index - offsets[chunk]];
+    }
+
+    /**
+     * Returns a list like this one, but with {@code removedCount} elements from {@code from} replaced by
+     * {@code added}. This is the change described by one step of a {@code ListChangeListener.Change}.
+     */
+    PersistentList<E> splice(int from, int removedCount, List<? extends E> added) {
+        requireNonNull(added);
+        int size = size();
+        if (from < 0 || removedCount < 0 || from + removedCount > size) {
+            throw new IndexOutOfBoundsException("Cannot replace " + removedCount + " elements from " + from
+                    + " in a list of " + size);
+        }
+        if (removedCount == 0 && added.isEmpty()) {
+            return this;
+        }
+
+        // The chunks from firstChunk up to (but excluding) endChunk are rebuilt, and all others are shared.
+        int firstChunk = from == size ? Math.max(chunks.length - 1, 0) : findChunk(from);
+        int endChunk = removedCount == 0 ? Math.min(firstChunk + 1, chunks.length)
+                : findChunk(from + removedCount - 1) + 1;
+        int rebuiltSize = endChunk > firstChunk ? offsets[endChunk] - offsets[firstChunk] - removedCount + added.size()
+                : added.size();
+        while (rebuiltSize < MIN_CHUNK_SIZE && endChunk < chunks.length) {
+            rebuiltSize += offsets[endChunk + 1] - offsets[endChunk];
+            endChunk++;
+        }
+
+        Object[] rebuilt = new Object[rebuiltSize];
+        int rebuiltStart = chunks.length == 0 ? 0 : offsets[firstChunk];
+        int position = 0;
+        for (int i = rebuiltStart; i < from; i++) {
+            rebuilt[position++] = get(i);
+        }
+        for (E element : added) {
+            rebuilt[position++] = element;
+        }
+        int rebuiltEnd = chunks.length == 0 ? 0 : offsets[endChunk];
+        for (int i = from + removedCount; i < rebuiltEnd; i++) {
+            rebuilt[position++] = get(i);
+        }
+
+        return replaceChunks(firstChunk, endChunk, rebuilt);
+    }
+
+    /**
+     * Returns a list with the chunks from {@code firstChunk} up to {@code endChunk} replaced by the elements of
+     * {@code rebuilt}, divided into as few chunks as possible, of about the same size.
+     */
+    private PersistentList<E> replaceChunks(int firstChunk, int endChunk, Object[] rebuilt) {
+        int newChunkCount = (rebuilt.length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+        int chunkCount = chunks.length - (endChunk - firstChunk) + newChunkCount;
+        Object[][] newChunks = new Object[chunkCount][];
+        int[] newOffsets = new int[chunkCount + 1];
+
+        System.arraycopy(chunks, 0, newChunks, 0, firstChunk);
+        System.arraycopy(offsets, 0, newOffsets, 0, firstChunk + 1);
+        int start = 0;
+        for (int i = 0; i < newChunkCount; i++) {
+            int end = (int) ((long) rebuilt.length * (i + 1) / newChunkCount);
+            newChunks[firstChunk + i] = Arrays.copyOfRange(rebuilt, start, end);
+            newOffsets[firstChunk + i + 1] = newOffsets[firstChunk + i] + end - start;
+            start = end;
+        }
+        int shift = newOffsets[firstChunk + newChunkCount] - offsets[endChunk];
+        for (int i = endChunk; i < chunks.length; i++) {
+            int newIndex = i - endChunk + firstChunk + newChunkCount;
+            newChunks[newIndex] = chunks[i];
+            newOffsets[newIndex + 1] = offsets[i + 1] + shift;
+        }
+        return new PersistentList<>(newChunks, newOffsets);
+    }
+
+    /**
+     * Returns the chunk holding the element at {@code index}.
+     */
+    private int findChunk(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        int chunk = Arrays.binarySearch(offsets, 0, chunks.length, index);
+        return chunk >= 0 ? chunk : -chunk - 2;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int chunk = 0;
+            private int indexInChunk = 0;
+
+            @Override
+            public boolean hasNext() {
+                return chunk < chunks.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                E element = (E) chunks[chunk][indexInChunk++];
+                if (indexInChunk == chunks[chunk].length) {
+                    chunk++;
+                    indexInChunk = 0;
+                }
+                return element;
+            }
+        };
+    }
+}
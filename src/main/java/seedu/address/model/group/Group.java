@@ -268,6 +268,14 @@ public class Group implements HasUniqueId, TaskAssignable, LessonAssignable {
         return otherGroup != null && otherGroup.getName().equals(getName());
     }
 
+    /**
+     * Returns a key that two groups share exactly when {@link #isSameGroup(Group)} is true of them. As groups are
+     * told apart by name alone, the key holds just the name.
+     */
+    public List<Object> getIdentityKey() {
+        return List.of(getName());
+    }
+
     /**
      * Returns true if both groups have the same identity and data fields.
      * This defines a stronger notion of equality between two groups.
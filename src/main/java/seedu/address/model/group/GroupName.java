@@ -3,6 +3,9 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.SearchableWords;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Group's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,24 +23,42 @@ public class GroupName {
 
     public final String name;
 
+    private final SearchableWords searchableWords;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public GroupName(String name) {
+        this(name, isValidName(name));
+    }
+
+    private GroupName(String name, boolean isValid) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(isValid, MESSAGE_CONSTRAINTS);
         this.name = name;
+        searchableWords = new SearchableWords(name);
+    }
+
+    /**
+     * Returns a {@code GroupName} for {@code name}, which is trusted to satisfy
+     * {@link #isValidName(String)} and is therefore not checked again.
+     */
+    public static GroupName ofTrusted(String name) {
+        return new GroupName(name, true);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
+    public SearchableWords getSearchableWords() {
+        return searchableWords;
+    }
 
     @Override
     public String toString() {
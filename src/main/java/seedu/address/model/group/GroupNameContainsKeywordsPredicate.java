@@ -10,15 +10,19 @@ import seedu.address.commons.util.StringUtil;
  */
 public class GroupNameContainsKeywordsPredicate implements Predicate<Group> {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
+    /**
+     * Creates a predicate for the given single-word keywords, matched regardless of case.
+     */
     public GroupNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        lowerCaseKeywords = StringUtil.toLowerCaseKeywords(keywords);
     }
 
     @Override
     public boolean test(Group group) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(group.getName().name, keyword));
+        return group.getName().getSearchableWords().containsAnyWord(lowerCaseKeywords);
     }
 
     @Override
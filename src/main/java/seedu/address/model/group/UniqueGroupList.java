@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -15,6 +18,7 @@ import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.id.UniqueId;
 import seedu.address.model.id.UniqueIdMapper;
 import seedu.address.model.id.exceptions.IdNotFoundException;
+import seedu.address.model.util.BatchableObservableList;
 
 
 /**
@@ -30,9 +34,10 @@ import seedu.address.model.id.exceptions.IdNotFoundException;
  */
 public class UniqueGroupList implements Iterable<Group>, UniqueIdMapper<Group> {
 
-    private final ObservableList<Group> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Group> internalList = new BatchableObservableList<>();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UniqueId, Group> groupsById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent group as the given argument.
@@ -52,6 +57,7 @@ public class UniqueGroupList implements Iterable<Group>, UniqueIdMapper<Group> {
             throw new DuplicateGroupException();
         }
         internalList.add(toAdd);
+        groupsById.put(toAdd.getId(), toAdd);
     }
 
     /**
@@ -72,6 +78,8 @@ public class UniqueGroupList implements Iterable<Group>, UniqueIdMapper<Group> {
         }
 
         internalList.set(index, editedGroup);
+        groupsById.remove(target.getId(), target);
+        groupsById.put(editedGroup.getId(), editedGroup);
     }
 
     /**
@@ -83,12 +91,14 @@ public class UniqueGroupList implements Iterable<Group>, UniqueIdMapper<Group> {
         if (!internalList.remove(toRemove)) {
             throw new GroupNotFoundException();
         }
+        groupsById.remove(toRemove.getId(), toRemove);
     }
 
     //This method is used for testing later
     public void setGroups(UniqueGroupList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        indexGroups();
     }
 
     /**
@@ -102,21 +112,62 @@ public class UniqueGroupList implements Iterable<Group>, UniqueIdMapper<Group> {
         }
 
         internalList.setAll(groups);
+        indexGroups();
     }
 
     /**
      * Removes the personId from all groups
      * @param toRemove id to remove
+     * @return the ids of the groups that were changed
      */
-    public void cleanUpPersonId(UniqueId toRemove) {
+    public Set<UniqueId> cleanUpPersonId(UniqueId toRemove) {
+        Set<UniqueId> changedIds = new HashSet<>();
         List<Group> groups = new ArrayList<>(internalList);
         for (int i = 0; i < groups.size(); i++) {
             Group current = groups.get(i);
             if (current.containsPersonId(toRemove)) {
                 Group withoutId = current.removePersonId(toRemove);
                 internalList.set(i , withoutId);
+                groupsById.put(withoutId.getId(), withoutId);
+                changedIds.add(withoutId.getId());
             }
         }
+        return changedIds;
+    }
+
+    /**
+     * Replaces the {@code removedCount} groups from index {@code from} with {@code added}, as one change.
+     * Unlike the other changes, this does not check for duplicates, and is only for taking the list back, or
+     * forward, to contents it has had before.
+     */
+    public void replaceRange(int from, int removedCount, List<Group> added) {
+        requireAllNonNull(added);
+        internalList.beginBatch();
+        try {
+            for (int i = from; i < from + removedCount; i++) {
+                Group removed = internalList.get(i);
+                groupsById.remove(removed.getId(), removed);
+            }
+            internalList.remove(from, from + removedCount);
+            internalList.addAll(from, added);
+            added.forEach(group -> groupsById.put(group.getId(), group));
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Holds back notifications of changes to the groups until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}, telling listeners what changed if it was the outermost one.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -143,15 +194,24 @@ public class UniqueGroupList implements Iterable<Group>, UniqueIdMapper<Group> {
         return internalList.hashCode();
     }
 
+    /**
+     * Rebuilds the index of groups by id after the whole list has been replaced.
+     */
+    private void indexGroups() {
+        groupsById.clear();
+        for (Group group : internalList) {
+            groupsById.put(group.getId(), group);
+        }
+    }
+
     /**
      * Returns true if {@code groups} contains only unique groups.
      */
     private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> identities = new HashSet<>();
+        for (Group group : groups) {
+            if (!identities.add(group.getIdentityKey())) {
+                return false;
             }
         }
         return true;
@@ -159,6 +219,6 @@ public class UniqueGroupList implements Iterable<Group>, UniqueIdMapper<Group> {
 
     @Override
     public Set<Group> getFromUniqueIds(Set<UniqueId> ids) throws IdNotFoundException {
-        return UniqueIdMapper.<Group>getFromUniqueIdsAndItemList(ids, internalList);
+        return UniqueIdMapper.getFromUniqueIdsAndItemMap(ids, groupsById);
     }
 }
@@ -27,10 +27,10 @@ public class UniqueId {
         this.id = UUID.randomUUID();
     }
 
-    private UniqueId(String id) {
+    private UniqueId(UUID id) {
         // create a default hasUniqueId for the id's temporary owner.
         this.owner = () -> UniqueId.generateId(id);
-        this.id = UUID.fromString(id);
+        this.id = id;
     }
 
     /**
@@ -39,6 +39,16 @@ public class UniqueId {
      * @param id String representation of the UUID of a task.
      */
     public static UniqueId generateId(String id) {
+        requireNonNull(id);
+        return new UniqueId(UUID.fromString(id));
+    }
+
+    /**
+     * Creates a UniqueId object from an already parsed {@code UUID}.
+     *
+     * @param id The UUID of a task.
+     */
+    public static UniqueId generateId(UUID id) {
         requireNonNull(id);
         return new UniqueId(id);
     }
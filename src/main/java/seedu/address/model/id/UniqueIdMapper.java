@@ -1,7 +1,7 @@
 package seedu.address.model.id;
 
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.model.id.exceptions.IdNotFoundException;
@@ -9,16 +9,18 @@ import seedu.address.model.id.exceptions.IdNotFoundException;
 public interface UniqueIdMapper<T extends HasUniqueId> {
 
     /**
-     * Util method to get the set of objects from a given list represented by a set of ids.
+     * Util method to get the set of objects represented by a set of ids from a map of the objects by their ids.
      * A static implementation that can be reused by most implementations of this interface.
      */
-    static <T extends HasUniqueId> Set<T> getFromUniqueIdsAndItemList(Set<UniqueId> ids,
-            List<T> list) throws IdNotFoundException {
+    static <T extends HasUniqueId> Set<T> getFromUniqueIdsAndItemMap(Set<UniqueId> ids,
+            Map<UniqueId, T> itemsById) throws IdNotFoundException {
         Set<T> toReturn = new HashSet<>();
         for (UniqueId id : ids) {
-            toReturn.add(list.stream().filter(generic -> id.equals(generic.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new IdNotFoundException(id)));
+            T item = itemsById.get(id);
+            if (item == null) {
+                throw new IdNotFoundException(id);
+            }
+            toReturn.add(item);
         }
         return toReturn;
     }
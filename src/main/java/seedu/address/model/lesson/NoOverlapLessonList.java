@@ -48,6 +48,20 @@ public class NoOverlapLessonList implements Iterable<Lesson> {
         return new NoOverlapLessonList(newList);
     }
 
+    /**
+     * Factory method for lessons that are already known not to overlap, e.g. lessons saved by this app.
+     * Skips the pairwise overlap check done by {@link #of(List)}.
+     * @param lessonsList a list of non-overlapping Lessons
+     * @return an instance of NoOverlapLessonList with the specified lessons
+     */
+    public static NoOverlapLessonList ofTrusted(List<Lesson> lessonsList) {
+        if (lessonsList == null || lessonsList.isEmpty()) {
+            return new NoOverlapLessonList();
+        }
+
+        return new NoOverlapLessonList(new ArrayList<>(lessonsList));
+    }
+
     /**
      * Check if any lessons in a list overlaps
      * @param toCheck List to check
@@ -3,6 +3,8 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represent the subject or topic of a lesson
  * Guarantees: immutable, is properly formatted as declared in {@link #isValidSubject(String)}
@@ -16,6 +18,7 @@ public class Subject {
      * The subject name should have at least one alphanumeric character
      */
     public static final String VALIDATION_REGEX = "^.*[\\p{Alnum}]+.*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private final String subjectName;
 
@@ -25,11 +28,23 @@ public class Subject {
      * @param subjectName A valid string representation of what the subject is
      */
     public Subject(String subjectName) {
+        this(subjectName, isValidSubject(subjectName));
+    }
+
+    private Subject(String subjectName, boolean isValid) {
         requireNonNull(subjectName);
-        checkArgument(isValidSubject(subjectName), MESSAGE_CONSTRAINTS);
+        checkArgument(isValid, MESSAGE_CONSTRAINTS);
         this.subjectName = subjectName;
     }
 
+    /**
+     * Returns a {@code Subject} for {@code subjectName}, which is trusted to satisfy
+     * {@link #isValidSubject(String)} and is therefore not checked again.
+     */
+    public static Subject ofTrusted(String subjectName) {
+        return new Subject(subjectName, true);
+    }
+
     public String getSubjectName() {
         return subjectName;
     }
@@ -38,7 +53,7 @@ public class Subject {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidSubject(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
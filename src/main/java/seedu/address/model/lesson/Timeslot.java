@@ -5,6 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalTime;
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a timeslot, for example 10pm - 12pm
@@ -29,9 +32,34 @@ public class Timeslot implements Comparable<Timeslot> {
     public Timeslot(String startTimeStr, String endTimeStr) {
         requireNonNull(startTimeStr);
         requireNonNull(endTimeStr);
-        checkArgument(isValidTimeslot(startTimeStr, endTimeStr), MESSAGE_CONSTRAINTS);
-        startTime = LocalTime.parse(startTimeStr);
-        endTime = LocalTime.parse((endTimeStr));
+        startTime = ValidationUtil.parseTime(startTimeStr).orElse(null);
+        endTime = ValidationUtil.parseTime(endTimeStr).orElse(null);
+        checkArgument(isValidTimeslot(startTime, endTime), MESSAGE_CONSTRAINTS);
+    }
+
+    private Timeslot(LocalTime startTime, LocalTime endTime) {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Returns a {@code Timeslot} for timings that are trusted to satisfy {@link #isValidTimeslot(String, String)}.
+     * Each timing is parsed once, without the format and ordering checks.
+     */
+    public static Timeslot ofTrusted(String startTimeStr, String endTimeStr) {
+        return new Timeslot(LocalTime.parse(startTimeStr), LocalTime.parse(endTimeStr));
+    }
+
+    /**
+     * Returns the {@code Timeslot} for the given timings, or an empty {@code Optional} if they are not valid
+     * as declared in {@link #isValidTimeslot(String, String)}. Each timing is parsed once.
+     */
+    public static Optional<Timeslot> parse(String startTimeStr, String endTimeStr) {
+        LocalTime startTime = ValidationUtil.parseTime(startTimeStr).orElse(null);
+        LocalTime endTime = ValidationUtil.parseTime(endTimeStr).orElse(null);
+        return isValidTimeslot(startTime, endTime) ? Optional.of(new Timeslot(startTime, endTime)) : Optional.empty();
     }
 
     public LocalTime getEndTime() {
@@ -50,13 +78,14 @@ public class Timeslot implements Comparable<Timeslot> {
      * @return true if both string representations are valid and the start time is before end time
      */
     public static boolean isValidTimeslot(String startTimeStr, String endTimeStr) {
-        if (!startTimeStr.matches(VALIDATION_REGEX) || !endTimeStr.matches(VALIDATION_REGEX)) {
-            return false;
-        }
+        return parse(startTimeStr, endTimeStr).isPresent();
+    }
 
-        LocalTime startTime = LocalTime.parse(startTimeStr);
-        LocalTime endTime = LocalTime.parse((endTimeStr));
-        return startTime.isBefore(endTime);
+    /**
+     * Returns true if both timings were parsed and the start time is before the end time.
+     */
+    private static boolean isValidTimeslot(LocalTime startTime, LocalTime endTime) {
+        return startTime != null && endTime != null && startTime.isBefore(endTime);
     }
 
     /**
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.SearchableWords;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,24 +23,42 @@ public class Name {
 
     public final String fullName;
 
+    private final SearchableWords searchableWords;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, isValidName(name));
+    }
+
+    private Name(String name, boolean isValid) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(isValid, MESSAGE_CONSTRAINTS);
         fullName = name;
+        searchableWords = new SearchableWords(name);
+    }
+
+    /**
+     * Returns a {@code Name} for {@code name}, which is trusted to satisfy
+     * {@link #isValidName(String)} and is therefore not checked again.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, true);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
+    public SearchableWords getSearchableWords() {
+        return searchableWords;
+    }
 
     @Override
     public String toString() {
@@ -10,15 +10,20 @@ import seedu.address.commons.util.StringUtil;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
+    /**
+     * Creates a predicate for the given keywords. Each keyword must be a single word, and is put in lower case here
+     * rather than each time a person is tested.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        lowerCaseKeywords = StringUtil.toLowerCaseKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return person.getName().getSearchableWords().containsAnyWord(lowerCaseKeywords);
     }
 
     @Override
@@ -350,6 +350,14 @@ public class Person implements HasUniqueId, Attendee,
                 && otherPerson.getEmail().equals(getEmail());
     }
 
+    /**
+     * Returns a key that is equal for two persons exactly when {@link #isSamePerson(Person)} is true of them, so
+     * that duplicates can be found with a hash set instead of by comparing every pair.
+     */
+    public List<Object> getIdentityKey() {
+        return List.of(getName(), getPhone(), getEmail());
+    }
+
     /**
      * Returns true if both persons have exactly the same fields, possibly except the id.
      */
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -14,6 +17,7 @@ import seedu.address.model.id.UniqueId;
 import seedu.address.model.id.UniqueIdMapper;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.BatchableObservableList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -28,9 +32,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person>, UniqueIdMapper<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Person> internalList = new BatchableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UniqueId, Person> personsById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -50,6 +55,26 @@ public class UniquePersonList implements Iterable<Person>, UniqueIdMapper<Person
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsById.put(toAdd.getId(), toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, as one change.
+     * None of the persons may already exist in the list, and no two of them may be the same person.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<List<Object>> identities = new HashSet<>();
+        for (Person person : internalList) {
+            identities.add(person.getIdentityKey());
+        }
+        for (Person person : toAdd) {
+            if (!identities.add(person.getIdentityKey())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(toAdd);
+        toAdd.forEach(person -> personsById.put(person.getId(), person));
     }
 
     /**
@@ -69,6 +94,8 @@ public class UniquePersonList implements Iterable<Person>, UniqueIdMapper<Person
             throw new DuplicatePersonException();
         }
         internalList.set(index, editedPerson);
+        personsById.remove(target.getId(), target);
+        personsById.put(editedPerson.getId(), editedPerson);
     }
 
     /**
@@ -80,11 +107,13 @@ public class UniquePersonList implements Iterable<Person>, UniqueIdMapper<Person
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsById.remove(toRemove.getId(), toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        indexPersons();
     }
 
     /**
@@ -98,23 +127,64 @@ public class UniquePersonList implements Iterable<Person>, UniqueIdMapper<Person
         }
 
         internalList.setAll(persons);
+        indexPersons();
     }
 
     /**
      * Removes the groupId from all persons
      * @param toRemove id to remove
+     * @return the ids of the persons that were changed
      */
-    public void cleanUpGroupId(UniqueId toRemove) {
+    public Set<UniqueId> cleanUpGroupId(UniqueId toRemove) {
+        Set<UniqueId> changedIds = new HashSet<>();
         List<Person> persons = new ArrayList<>(internalList);
         for (int i = 0; i < persons.size(); i++) {
             Person current = persons.get(i);
             if (current.containsGroupId(toRemove)) {
                 Person withoutId = current.removeGroupId(toRemove);
                 internalList.set(i , withoutId);
+                personsById.put(withoutId.getId(), withoutId);
+                changedIds.add(withoutId.getId());
+            }
+        }
+        return changedIds;
+    }
+
+    /**
+     * Replaces the {@code removedCount} persons from index {@code from} with {@code added}, as one change.
+     * Unlike the other changes, this does not check for duplicates, and is only for taking the list back, or
+     * forward, to contents it has had before.
+     */
+    public void replaceRange(int from, int removedCount, List<Person> added) {
+        requireAllNonNull(added);
+        internalList.beginBatch();
+        try {
+            for (int i = from; i < from + removedCount; i++) {
+                Person removed = internalList.get(i);
+                personsById.remove(removed.getId(), removed);
             }
+            internalList.remove(from, from + removedCount);
+            internalList.addAll(from, added);
+            added.forEach(person -> personsById.put(person.getId(), person));
+        } finally {
+            internalList.endBatch();
         }
     }
 
+    /**
+     * Holds back notifications of changes to the persons until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}, telling listeners what changed if it was the outermost one.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -139,15 +209,24 @@ public class UniquePersonList implements Iterable<Person>, UniqueIdMapper<Person
         return internalList.hashCode();
     }
 
+    /**
+     * Rebuilds the index of persons by id after the whole list has been replaced.
+     */
+    private void indexPersons() {
+        personsById.clear();
+        for (Person person : internalList) {
+            personsById.put(person.getId(), person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> identities = new HashSet<>();
+        for (Person person : persons) {
+            if (!identities.add(person.getIdentityKey())) {
+                return false;
             }
         }
         return true;
@@ -155,6 +234,6 @@ public class UniquePersonList implements Iterable<Person>, UniqueIdMapper<Person
 
     @Override
     public Set<Person> getFromUniqueIds(Set<UniqueId> ids) {
-        return UniqueIdMapper.<Person>getFromUniqueIdsAndItemList(ids, internalList);
+        return UniqueIdMapper.getFromUniqueIdsAndItemMap(ids, personsById);
     }
 }
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 /**
  * Represents a Task's deadline.
@@ -15,6 +16,8 @@ public class Deadline {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Deadlines should be in the format YYYY-MM-DD with valid year, month, and day, such as 2007-12-03";
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
     public final LocalDate deadline;
 
     /**
@@ -24,8 +27,22 @@ public class Deadline {
      */
     public Deadline(String deadline) {
         requireNonNull(deadline);
-        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
-        this.deadline = LocalDate.parse(deadline);
+        Optional<LocalDate> date = parseDate(deadline);
+        checkArgument(date.isPresent(), MESSAGE_CONSTRAINTS);
+        this.deadline = date.get();
+    }
+
+    private Deadline(LocalDate deadline) {
+        requireNonNull(deadline);
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns a {@code Deadline} for a date string that is trusted to satisfy {@link #isValidDeadline(String)},
+     * so that it is only parsed once.
+     */
+    public static Deadline ofTrusted(String deadline) {
+        return new Deadline(LocalDate.parse(deadline));
     }
 
     /**
@@ -34,17 +51,28 @@ public class Deadline {
      * @param test The description to be tested.
      */
     public static boolean isValidDeadline(String test) {
+        return parseDate(test).isPresent();
+    }
+
+    /**
+     * Returns the {@code Deadline} for {@code deadline}, or an empty {@code Optional} if it is not valid
+     * as declared in {@link #isValidDeadline(String)}. The date is parsed once.
+     */
+    public static Optional<Deadline> parse(String deadline) {
+        return parseDate(deadline).map(Deadline::new);
+    }
+
+    private static Optional<LocalDate> parseDate(String test) {
         try {
-            LocalDate testDate = LocalDate.parse(test);
-            return true;
+            return Optional.of(LocalDate.parse(test));
         } catch (DateTimeException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
     @Override
     public String toString() {
-        return deadline.format(DateTimeFormatter.ofPattern("dd MMM yyyy"));
+        return deadline.format(DISPLAY_FORMATTER);
     }
 
     @Override
@@ -3,6 +3,9 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.SearchableWords;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Task's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}
@@ -20,24 +23,42 @@ public class Description {
 
     public final String description;
 
+    private final SearchableWords searchableWords;
+
     /**
      * Constructs a {@code Description}.
      *
      * @param description A valid description.
      */
     public Description(String description) {
+        this(description, isValidDescription(description));
+    }
+
+    private Description(String description, boolean isValid) {
         requireNonNull(description);
-        checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        checkArgument(isValid, MESSAGE_CONSTRAINTS);
         this.description = description;
+        searchableWords = new SearchableWords(description);
+    }
+
+    /**
+     * Returns a {@code Description} for {@code description}, which is trusted to satisfy
+     * {@link #isValidDescription(String)} and is therefore not checked again.
+     */
+    public static Description ofTrusted(String description) {
+        return new Description(description, true);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidDescription(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
+    public SearchableWords getSearchableWords() {
+        return searchableWords;
+    }
 
     @Override
     public String toString() {
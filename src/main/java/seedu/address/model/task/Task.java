@@ -2,6 +2,7 @@ package seedu.address.model.task;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.id.HasUniqueId;
@@ -68,6 +69,14 @@ public class Task implements HasUniqueId {
                 && otherTask.getDeadline().equals(getDeadline());
     }
 
+    /**
+     * Returns the description and deadline of this task, which are equal for two tasks exactly when
+     * {@link #isSameTask(Task)} is true of them.
+     */
+    public List<Object> getIdentityKey() {
+        return List.of(getDescription(), getDeadline());
+    }
+
     /**
      * Returns true if both tasks have the same id, description and deadline.
      * This defines a stronger notion of equality between two persons.
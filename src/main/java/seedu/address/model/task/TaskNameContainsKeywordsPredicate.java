@@ -10,15 +10,19 @@ import seedu.address.commons.util.StringUtil;
  */
 public class TaskNameContainsKeywordsPredicate implements Predicate<Task> {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
+    /**
+     * Creates a predicate for the given keywords, each of which must be a single word.
+     */
     public TaskNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        lowerCaseKeywords = StringUtil.toLowerCaseKeywords(keywords);
     }
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getDescription().description, keyword));
+        return task.getDescription().getSearchableWords().containsAnyWord(lowerCaseKeywords);
     }
 
     @Override
@@ -3,8 +3,11 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -13,6 +16,7 @@ import seedu.address.model.id.UniqueId;
 import seedu.address.model.id.UniqueIdMapper;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
+import seedu.address.model.util.BatchableObservableList;
 
 /**
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
@@ -27,9 +31,10 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  */
 public class UniqueTaskList implements Iterable<Task>, UniqueIdMapper<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Task> internalList = new BatchableObservableList<>();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UniqueId, Task> tasksById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
@@ -49,6 +54,7 @@ public class UniqueTaskList implements Iterable<Task>, UniqueIdMapper<Task> {
             throw new DuplicateTaskException();
         }
         internalList.add(toAdd);
+        tasksById.put(toAdd.getId(), toAdd);
     }
 
     /**
@@ -69,6 +75,8 @@ public class UniqueTaskList implements Iterable<Task>, UniqueIdMapper<Task> {
         }
 
         internalList.set(index, editedTask);
+        tasksById.remove(target.getId(), target);
+        tasksById.put(editedTask.getId(), editedTask);
     }
 
     /**
@@ -80,12 +88,14 @@ public class UniqueTaskList implements Iterable<Task>, UniqueIdMapper<Task> {
         if (!internalList.remove(toRemove)) {
             throw new TaskNotFoundException();
         }
+        tasksById.remove(toRemove.getId(), toRemove);
     }
 
     //This method is used for testing later
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        indexTasks();
     }
 
     /**
@@ -99,6 +109,42 @@ public class UniqueTaskList implements Iterable<Task>, UniqueIdMapper<Task> {
         }
 
         internalList.setAll(tasks);
+        indexTasks();
+    }
+
+    /**
+     * Replaces the {@code removedCount} tasks from index {@code from} with {@code added}, as one change.
+     * Unlike the other changes, this does not check for duplicates, and is only for taking the list back, or
+     * forward, to contents it has had before.
+     */
+    public void replaceRange(int from, int removedCount, List<Task> added) {
+        requireAllNonNull(added);
+        internalList.beginBatch();
+        try {
+            for (int i = from; i < from + removedCount; i++) {
+                Task removed = internalList.get(i);
+                tasksById.remove(removed.getId(), removed);
+            }
+            internalList.remove(from, from + removedCount);
+            internalList.addAll(from, added);
+            added.forEach(task -> tasksById.put(task.getId(), task));
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Holds back notifications of changes to the tasks until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}, telling listeners what changed if it was the outermost one.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -115,7 +161,7 @@ public class UniqueTaskList implements Iterable<Task>, UniqueIdMapper<Task> {
 
     @Override
     public Set<Task> getFromUniqueIds(Set<UniqueId> ids) {
-        return UniqueIdMapper.<Task>getFromUniqueIdsAndItemList(ids, internalList);
+        return UniqueIdMapper.getFromUniqueIdsAndItemMap(ids, tasksById);
     }
 
     @Override
@@ -130,15 +176,24 @@ public class UniqueTaskList implements Iterable<Task>, UniqueIdMapper<Task> {
         return internalList.hashCode();
     }
 
+    /**
+     * Rebuilds the index of tasks by id after the whole list has been replaced.
+     */
+    private void indexTasks() {
+        tasksById.clear();
+        for (Task task : internalList) {
+            tasksById.put(task.getId(), task);
+        }
+    }
+
     /**
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> identities = new HashSet<>();
+        for (Task task : tasks) {
+            if (!identities.add(task.getIdentityKey())) {
+                return false;
             }
         }
         return true;
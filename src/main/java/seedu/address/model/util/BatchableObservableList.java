@@ -0,0 +1,139 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} that can gather the changes made to it over several calls into one change.
+ * <p>
+ * Between {@link #beginBatch()} and the matching {@link #endBatch()}, the list changes as usual, but its listeners
+ * are not told until the batch ends, when they are sent a single change holding everything that was done.
+ * A {@code FilteredList} or {@code ListView} over the list then updates once, rather than once per element changed.
+ * Batches may be nested, in which case the listeners are told when the outermost batch ends.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Holds back change notifications until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}. If this ends the outermost batch, the listeners are sent the
+     * changes made during it, if there were any.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newElements} in one step, rather than removing the old
+     * elements one at a time from the front as the superclass would.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> newElements) {
+        beginChange();
+        try {
+            if (!elements.isEmpty()) {
+                List<E> removed = new ArrayList<>(elements);
+                elements.clear();
+                nextRemove(0, removed);
+            }
+            elements.addAll(newElements);
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Appends {@code newElements} in one step.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> newElements) {
+        return addAll(elements.size(), newElements);
+    }
+
+    /**
+     * Inserts {@code newElements} at {@code index} in one step, rather than one element at a time.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> newElements) {
+        if (index < 0 || index > elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.size());
+        }
+        if (newElements.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            elements.addAll(index, newElements);
+            nextAdd(index, index + newElements.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} up to {@code toIndex} in one step, rather than one element at a
+     * time, which would shift the elements after them once for each.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            nextRemove(fromIndex, new ArrayList<>(range));
+            range.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * One step of a change to a list: the elements {@code removed} from index {@code from}, replaced by {@code added}.
+ * <p>
+ * A {@code ListChangeListener.Change} can only be read while its listener runs, so a listener that needs a change
+ * later copies it out into splices. Making the splices of a change in order to a copy of the list before the change
+ * gives the list after it, and making their {@link #inverse() inverses} in reverse order takes it back again.
+ */
+public final class ListSplice<E> {
+
+    private final int from;
+    private final List<E> removed;
+    private final List<E> added;
+
+    /**
+     * Creates a splice that replaces {@code removed}, at index {@code from}, with {@code added}.
+     */
+    public ListSplice(int from, List<E> removed, List<E> added) {
+        this.from = from;
+        this.removed = Collections.unmodifiableList(removed);
+        this.added = Collections.unmodifiableList(added);
+    }
+
+    /**
+     * Copies out the steps of {@code change}, rewinding it first in case another listener has read it.
+     */
+    public static <E> List<ListSplice<E>> of(ListChangeListener.Change<? extends E> change) {
+        List<ListSplice<E>> splices = new ArrayList<>();
+        change.reset();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int to = change.getTo();
+                List<E> before = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    before.add(change.getList().get(change.getPermutation(i)));
+                }
+                splices.add(new ListSplice<>(from, before, new ArrayList<>(change.getList().subList(from, to))));
+            } else if (change.wasUpdated()) {
+                List<E> elements = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                splices.add(new ListSplice<>(from, elements, elements));
+            } else {
+                splices.add(new ListSplice<>(from, new ArrayList<>(change.getRemoved()),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+        return splices;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<E> getRemoved() {
+        return removed;
+    }
+
+    public List<E> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the splice that undoes this one.
+     */
+    public ListSplice<E> inverse() {
+        return new ListSplice<>(from, added, removed);
+    }
+}
@@ -0,0 +1,305 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.id.UniqueId;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.NoOverlapLessonList;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Timeslot;
+import seedu.address.model.lesson.exceptions.OverlappingLessonsException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Exam;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Task;
+
+/**
+ * Generates address books of any size for capacity testing.
+ * Unlike {@link SampleDataUtil}, the data is random, but the same seed and sizes always give the same address book.
+ * <p>
+ * Every lesson ends by {@link #LATEST_LESSON_END}, so a lesson added later than that never overlaps. No student's
+ * own lessons and the lessons of their groups overlap, as the app would not allow it.
+ */
+public class SampleDataGenerator {
+
+    public static final LocalTime LATEST_LESSON_END = LocalTime.of(21, 0);
+    public static final LocalDate TERM_START = LocalDate.of(2021, 10, 4);
+    public static final int TERM_LENGTH_IN_DAYS = 12 * 7;
+
+    public static final int MIN_GROUP_SIZE = 3;
+    public static final int MAX_GROUP_SIZE = 8;
+
+    /** Chance in percent of a student having 0, 1, 2, 3 or 4 lessons a week. */
+    private static final int[] LESSON_COUNT_WEIGHTS = {10, 40, 30, 15, 5};
+    private static final int MAX_TASKS_PER_PERSON = 5;
+    private static final int MAX_TASKS_PER_GROUP = 2;
+    private static final int MAX_EXAMS_PER_PERSON = 2;
+    private static final int MAX_ATTEMPTS_PER_LESSON = 10;
+
+    private static final String[] FIRST_NAMES = {
+        "Wei Ling", "Jun Jie", "Hui Min", "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Priya",
+        "Siti", "Ethan", "Chloe", "Ryan", "Nicole", "Aaron", "Rachel", "Marcus", "Hannah", "Daniel",
+        "Nur Aisyah", "Arjun", "Javier", "Kai Xuan", "Vanessa", "Zachary", "Megan", "Hafiz", "Isabelle", "Ming Hao"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay",
+        "Ho", "Low", "Toh", "Sim", "Chong", "Abdullah", "Ibrahim", "Kumar", "Pillai", "Fernandez", "Yeoh", "Li"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street 29", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street 74", "Clementi Ave 2",
+        "Jurong West Ave 6", "Tampines Street 21", "Bedok North Road", "Woodlands Drive 14", "Toa Payoh Lorong 1",
+        "Yishun Ring Road", "Pasir Ris Drive 6", "Bukit Batok West Ave 8"
+    };
+    private static final String[] TAGS = {"sec1", "sec2", "sec3", "sec4", "jc1", "jc2"};
+    private static final String[] SUBJECTS = {
+        "Maths", "English", "Physics", "Chemistry", "Biology", "Econs", "History", "Geography", "Literature", "Chinese"
+    };
+    private static final String[] TASK_KINDS = {"worksheet", "assignment", "quiz", "essay", "lab report", "revision"};
+
+    private final Random random;
+
+    /**
+     * Creates a generator whose output is determined by {@code seed}.
+     */
+    public SampleDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns an address book with {@code personCount} students, {@code taskCount} tasks and {@code groupCount}
+     * groups. Students are given lessons, exams and some of the tasks, and each group is given
+     * between {@value #MIN_GROUP_SIZE} and {@value #MAX_GROUP_SIZE} students, a lesson and some of the tasks.
+     */
+    public AddressBook generate(int personCount, int taskCount, int groupCount) {
+        checkArgument(personCount >= 0 && taskCount >= 0 && groupCount >= 0, "Sizes must not be negative");
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(generateTask(i));
+        }
+
+        List<UniqueId> personIds = new ArrayList<>();
+        List<Set<UniqueId>> personGroupIds = new ArrayList<>();
+        // the lessons of each student's groups, which their other lessons must not overlap
+        List<NoOverlapLessonList> personGroupLessons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            personIds.add(generateId());
+            personGroupIds.add(new HashSet<>());
+            personGroupLessons.add(new NoOverlapLessonList());
+        }
+
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            UniqueId groupId = generateId();
+            Set<Integer> memberIndexes = pickDistinct(personCount, randomBetween(MIN_GROUP_SIZE, MAX_GROUP_SIZE));
+            List<NoOverlapLessonList> memberLessons = new ArrayList<>();
+            for (int index : memberIndexes) {
+                memberLessons.add(personGroupLessons.get(index));
+            }
+            NoOverlapLessonList groupLessons = generateGroupLessons(memberLessons);
+
+            Set<UniqueId> memberIds = new HashSet<>();
+            for (int index : memberIndexes) {
+                memberIds.add(personIds.get(index));
+                personGroupIds.get(index).add(groupId);
+                for (Lesson lesson : groupLessons) {
+                    personGroupLessons.set(index, personGroupLessons.get(index).addLesson(lesson));
+                }
+            }
+            groups.add(generateGroup(i, groupId, memberIds, pickTaskIds(tasks, MAX_TASKS_PER_GROUP), groupLessons));
+        }
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(generatePerson(i, personIds.get(i), personGroupIds.get(i),
+                    pickTaskIds(tasks, MAX_TASKS_PER_PERSON), personGroupLessons.get(i)));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setTasks(tasks);
+        addressBook.setGroups(groups);
+        return addressBook;
+    }
+
+    private Person generatePerson(int index, UniqueId id, Set<UniqueId> groupIds, Set<UniqueId> taskIds,
+            NoOverlapLessonList groupLessons) {
+        String firstName = pickSkewed(FIRST_NAMES);
+        String lastName = pickSkewed(LAST_NAMES);
+        Name name = new Name(firstName + " " + lastName);
+        Phone phone = new Phone(String.format("%d%07d", 8 + random.nextInt(2), random.nextInt(10_000_000)));
+        Email email = new Email(String.format("%s.%s%d@example.com",
+                firstName.replace(" ", "").toLowerCase(), lastName.toLowerCase(), index));
+        Address address = new Address(String.format("Blk %d %s, #%02d-%02d", 1 + random.nextInt(999),
+                STREETS[random.nextInt(STREETS.length)], 1 + random.nextInt(20), 1 + random.nextInt(99)));
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag(TAGS[random.nextInt(TAGS.length)]));
+
+        Map<UniqueId, Boolean> tasksCompletion = new HashMap<>();
+        for (UniqueId taskId : taskIds) {
+            tasksCompletion.put(taskId, random.nextBoolean());
+        }
+
+        NoOverlapLessonList lessons = generateLessons(pickWeighted(LESSON_COUNT_WEIGHTS), groupLessons);
+        List<Exam> exams = new ArrayList<>();
+        int examCount = random.nextInt(MAX_EXAMS_PER_PERSON + 1);
+        for (int i = 0; i < examCount; i++) {
+            exams.add(generateExam(lessons));
+        }
+
+        return new Person(id, name, phone, email, address, tags, taskIds, tasksCompletion, lessons, exams, groupIds);
+    }
+
+    private Task generateTask(int index) {
+        Description description = new Description(String.format("%s %s %d",
+                SUBJECTS[random.nextInt(SUBJECTS.length)], TASK_KINDS[random.nextInt(TASK_KINDS.length)], index + 1));
+        Deadline deadline = new Deadline(TERM_START.plusDays(random.nextInt(TERM_LENGTH_IN_DAYS)).toString());
+        return new Task(description, deadline, generateId());
+    }
+
+    private Group generateGroup(int index, UniqueId id, Set<UniqueId> memberIds, Set<UniqueId> taskIds,
+            NoOverlapLessonList lessons) {
+        GroupName name = new GroupName(SUBJECTS[random.nextInt(SUBJECTS.length)] + " tutorial " + (index + 1));
+        return new Group(name, id, taskIds, memberIds, lessons);
+    }
+
+    /**
+     * Returns a lesson for a group whose members already have {@code memberLessons}, or no lesson if none that was
+     * tried fits all of them in {@value #MAX_ATTEMPTS_PER_LESSON} attempts.
+     */
+    private NoOverlapLessonList generateGroupLessons(List<NoOverlapLessonList> memberLessons) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_LESSON; attempt++) {
+            Lesson lesson = generateLesson();
+            if (memberLessons.stream().noneMatch(lessons -> lessons.doesLessonOverlap(lesson))) {
+                return new NoOverlapLessonList().addLesson(lesson);
+            }
+        }
+        return new NoOverlapLessonList();
+    }
+
+    /**
+     * Returns up to {@code count} lessons on weekday evenings or weekends that overlap neither each other nor
+     * {@code groupLessons}. Lessons that would overlap are tried again elsewhere, up to
+     * {@value #MAX_ATTEMPTS_PER_LESSON} times.
+     */
+    private NoOverlapLessonList generateLessons(int count, NoOverlapLessonList groupLessons) {
+        NoOverlapLessonList lessons = new NoOverlapLessonList();
+        for (int i = 0; i < count; i++) {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_LESSON; attempt++) {
+                Lesson lesson = generateLesson();
+                if (groupLessons.doesLessonOverlap(lesson)) {
+                    continue;
+                }
+                try {
+                    lessons = lessons.addLesson(lesson);
+                    break;
+                } catch (OverlappingLessonsException e) {
+                    // try another timeslot
+                }
+            }
+        }
+        return lessons;
+    }
+
+    private Lesson generateLesson() {
+        DayOfWeek day = DayOfWeek.of(1 + random.nextInt(7));
+        boolean isWeekend = day.compareTo(DayOfWeek.SATURDAY) >= 0;
+        LocalTime earliestStart = isWeekend ? LocalTime.of(8, 0) : LocalTime.of(15, 0);
+        int lengthInMinutes = 30 * randomBetween(2, 4);
+        int startSlots = (int) (Duration.between(earliestStart, LATEST_LESSON_END).toMinutes()
+                - lengthInMinutes) / 30;
+        LocalTime start = earliestStart.plusMinutes(30L * random.nextInt(startSlots + 1));
+        Timeslot timeslot = new Timeslot(start.toString(), start.plusMinutes(lengthInMinutes).toString());
+        return new Lesson(timeslot, new Subject(SUBJECTS[random.nextInt(SUBJECTS.length)]), day);
+    }
+
+    /**
+     * Returns an exam during the term, in the subject of one of {@code lessons} if there are any.
+     */
+    private Exam generateExam(NoOverlapLessonList lessons) {
+        List<Lesson> lessonList = lessons.getLessons();
+        Subject subject = lessonList.isEmpty()
+                ? new Subject(SUBJECTS[random.nextInt(SUBJECTS.length)])
+                : lessonList.get(random.nextInt(lessonList.size())).getSubject();
+        LocalDate date = TERM_START.plusDays(random.nextInt(TERM_LENGTH_IN_DAYS));
+        LocalDateTime dateTime = date.atTime(random.nextBoolean() ? 9 : 14, 0);
+        return new Exam(subject, dateTime);
+    }
+
+    private Set<UniqueId> pickTaskIds(List<Task> tasks, int maxCount) {
+        Set<UniqueId> taskIds = new HashSet<>();
+        for (int index : pickDistinct(tasks.size(), random.nextInt(maxCount + 1))) {
+            taskIds.add(tasks.get(index).getId());
+        }
+        return taskIds;
+    }
+
+    /**
+     * Returns {@code count} distinct indexes below {@code bound}, or all of them if there are fewer.
+     */
+    private Set<Integer> pickDistinct(int bound, int count) {
+        Set<Integer> indexes = new LinkedHashSet<>();
+        while (indexes.size() < Math.min(bound, count)) {
+            indexes.add(random.nextInt(bound));
+        }
+        return indexes;
+    }
+
+    /**
+     * Picks an element, favouring those near the start of {@code values} the way common names are.
+     */
+    private String pickSkewed(String[] values) {
+        double skewed = random.nextDouble() * random.nextDouble();
+        return values[(int) (skewed * values.length)];
+    }
+
+    /**
+     * Returns an index of {@code weights}, with probability proportional to the weight at that index.
+     */
+    private int pickWeighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private int randomBetween(int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+
+    private UniqueId generateId() {
+        return UniqueId.generateId(new UUID(random.nextLong(), random.nextLong()));
+    }
+}
@@ -0,0 +1,366 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.storage.JsonAdaptedGroup;
+import seedu.address.storage.JsonAdaptedPerson;
+import seedu.address.storage.JsonAdaptedTask;
+
+/**
+ * Serves the address book as JSON over HTTP to other programs on this computer.
+ * <p>
+ * Requests are handled by a pool of threads. Reads are answered from the latest {@link AddressBookSnapshot}, so
+ * any number of them can run at once, and alongside a command. Commands are all handed to the single
+ * {@code writer} given to the server, which runs them one at a time as the rest of the app does.
+ * <p>
+ * The server only accepts connections from this computer. As a web page open in a browser on this computer could
+ * still send it requests, each request must also carry the {@link #getToken() token} made when the server is
+ * created, as {@code Authorization: Bearer TOKEN}, and requests from web pages, which carry an {@code Origin}, or
+ * addressed to any host other than this computer are refused.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String TASKS_PATH = "/api/tasks";
+    public static final String GROUPS_PATH = "/api/groups";
+    public static final String SCHEDULE_PATH = "/api/schedule";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    public static final String MESSAGE_NOT_FOUND = "No such resource: %s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%s is not allowed on %s";
+    public static final String MESSAGE_INTERRUPTED = "Interrupted while waiting for the command to finish";
+    public static final String MESSAGE_UNAUTHORIZED = "A valid token is needed in the Authorization header";
+    public static final String MESSAGE_ORIGIN_NOT_ALLOWED = "Requests from web pages are not accepted";
+    public static final String MESSAGE_HOST_NOT_ALLOWED = "Requests must be addressed to localhost or 127.0.0.1";
+
+    public static final String AUTHORIZATION_HEADER = "Authorization";
+    public static final String TOKEN_SCHEME = "Bearer ";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int TOKEN_BYTES = 32;
+    private static final String[] LOCAL_HOSTS = {"localhost", "127.0.0.1"};
+
+    /**
+     * The server writes the headers and body of a response separately. Unless Nagle's algorithm is turned off,
+     * the body is held back until the client acknowledges the headers, which it may delay for up to 40 ms.
+     * This is read once, when the first server is created, so it is set here unless it has been set explicitly.
+     */
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    static {
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+    }
+
+    private final Logic logic;
+    private final Executor writer;
+    private final HttpServer httpServer;
+    private final ExecutorService threadPool;
+    private final String token;
+
+    /** The latest response for each list, reused until the address book changes. */
+    private final Map<String, CachedResponse> cachedResponses = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a server for {@code logic} on {@code port} (or any free port, if it is 0), answering requests with
+     * {@code threadCount} threads and running commands with {@code writer}. A new token is made for the server,
+     * which clients must send with each request.
+     * The server does not accept requests until it is {@link #start() started}.
+     *
+     * @throws IOException if the server cannot listen on {@code port}.
+     */
+    public ApiServer(Logic logic, Executor writer, int port, int threadCount) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(writer);
+        this.logic = logic;
+        this.writer = writer;
+
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threadNumber = new AtomicInteger();
+        threadPool = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "ApiServer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(threadPool);
+        httpServer.createContext("/api/", this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info(() -> "API server listening on http://localhost:" + getPort() + "/api/");
+    }
+
+    /**
+     * Stops accepting requests, and stops the server once those being handled are answered.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        threadPool.shutdown();
+        logger.info("API server stopped");
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token that must be sent with each request to this server.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Runs {@code commandText} with the writer, waiting for it to finish.
+     * Commands from any thread can be run through this method, to keep them in order with those from the API.
+     * It must not be called from the writer itself, which would wait for itself forever.
+     */
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        FutureTask<CommandResult> command = new FutureTask<>(() -> logic.execute(commandText));
+        writer.execute(command);
+        try {
+            return command.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Answers a request, which is any request to a path under {@code /api/}.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        Response response;
+        try {
+            Optional<Response> refusal = checkAccess(exchange.getRequestHeaders());
+            response = refusal.isPresent() ? refusal.get() : route(exchange);
+        } catch (RuntimeException | JsonProcessingException e) {
+            logger.warning("Error answering " + exchange.getRequestURI() + " " + StringUtil.getDetails(e));
+            response = Response.error(STATUS_INTERNAL_ERROR, e.toString());
+        }
+
+        try (OutputStream body = exchange.getResponseBody()) {
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(response.status, response.body.length);
+            body.write(response.body);
+        }
+    }
+
+    /**
+     * Returns the response refusing a request with {@code headers}, or an empty {@code Optional} if the request
+     * may be answered.
+     */
+    private Optional<Response> checkAccess(Headers headers) {
+        if (headers.containsKey("Origin")) {
+            return Optional.of(Response.error(STATUS_FORBIDDEN, MESSAGE_ORIGIN_NOT_ALLOWED));
+        }
+        if (!isLocalHost(headers.getFirst("Host"))) {
+            return Optional.of(Response.error(STATUS_FORBIDDEN, MESSAGE_HOST_NOT_ALLOWED));
+        }
+        String authorization = headers.getFirst(AUTHORIZATION_HEADER);
+        if (authorization == null || !authorization.startsWith(TOKEN_SCHEME)
+                || !MessageDigest.isEqual(token.getBytes(StandardCharsets.US_ASCII),
+                        authorization.substring(TOKEN_SCHEME.length()).getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.of(Response.error(STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if {@code host}, the value of a Host header, names this computer, with or without the port.
+     * A page on another site that has made its name point to this computer sends that name instead.
+     */
+    private boolean isLocalHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        String lowerCaseHost = host.toLowerCase(Locale.ROOT);
+        for (String localHost : LOCAL_HOSTS) {
+            if (lowerCaseHost.equals(localHost) || lowerCaseHost.equals(localHost + ":" + getPort())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Response route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(COMMANDS_PATH)) {
+            if (!method.equals("POST")) {
+                return methodNotAllowed(method, path);
+            }
+            return runCommand(exchange.getRequestBody());
+        }
+
+        if (!method.equals("GET")) {
+            return methodNotAllowed(method, path);
+        }
+        AddressBookSnapshot snapshot = logic.getAddressBookSnapshot();
+        switch (path) {
+        case PERSONS_PATH:
+            return Response.ok(getCachedBody(PERSONS_PATH, snapshot, addressBook -> addressBook.getPersonList()
+                    .stream().map(JsonAdaptedPerson::new).collect(Collectors.toList())));
+        case TASKS_PATH:
+            return Response.ok(getCachedBody(TASKS_PATH, snapshot, addressBook -> addressBook.getTaskList()
+                    .stream().map(JsonAdaptedTask::new).collect(Collectors.toList())));
+        case GROUPS_PATH:
+            return Response.ok(getCachedBody(GROUPS_PATH, snapshot, addressBook -> addressBook.getGroupList()
+                    .stream().map(JsonAdaptedGroup::new).collect(Collectors.toList())));
+        case SCHEDULE_PATH:
+            return Response.ok(getCachedBody(SCHEDULE_PATH, snapshot, addressBook -> addressBook
+                    .getSortedLessonsWithAttendees().stream().map(JsonAdaptedScheduleEntry::new)
+                    .collect(Collectors.toList())));
+        default:
+            if (path.startsWith(PERSONS_PATH + "/")) {
+                return getPersonDetails(snapshot, path.substring(PERSONS_PATH.length() + 1));
+            }
+            return Response.error(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+    }
+
+    private static Response methodNotAllowed(String method, String path) {
+        return Response.error(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+    }
+
+    /**
+     * Returns the details of the student at the one-based {@code index} of the student list.
+     */
+    private Response getPersonDetails(AddressBookSnapshot snapshot, String index) throws JsonProcessingException {
+        int zeroBasedIndex = StringUtil.isNonZeroUnsignedInteger(index) ? Integer.parseInt(index) - 1 : -1;
+        if (zeroBasedIndex < 0 || zeroBasedIndex >= snapshot.getPersonList().size()) {
+            return Response.error(STATUS_NOT_FOUND, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        return Response.ok(JsonUtil.toJsonBytes(new JsonAdaptedPersonDetails(
+                snapshot.getPersonWithDetails(snapshot.getPersonList().get(zeroBasedIndex)))));
+    }
+
+    private Response runCommand(InputStream requestBody) throws IOException {
+        String commandText = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8).trim();
+        try {
+            CommandResult commandResult = execute(commandText);
+            return Response.ok(JsonUtil.toJsonBytes(Map.of("feedback", commandResult.getFeedbackToUser())));
+        } catch (CommandException | ParseException e) {
+            return Response.error(STATUS_BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the response body for {@code key} made from {@code snapshot} with {@code view}, making it only if the
+     * last one made for {@code key} was made from a different snapshot.
+     */
+    private byte[] getCachedBody(String key, AddressBookSnapshot snapshot, Function<AddressBookSnapshot, ?> view)
+            throws JsonProcessingException {
+        CachedResponse cached = cachedResponses.get(key);
+        if (cached == null || cached.snapshot != snapshot) {
+            cached = new CachedResponse(snapshot, JsonUtil.toJsonBytes(view.apply(snapshot)));
+            cachedResponses.put(key, cached);
+        }
+        return cached.body;
+    }
+
+    /**
+     * A response body and the snapshot it was made from.
+     */
+    private static class CachedResponse {
+        private final AddressBookSnapshot snapshot;
+        private final byte[] body;
+
+        CachedResponse(AddressBookSnapshot snapshot, byte[] body) {
+            this.snapshot = snapshot;
+            this.body = body;
+        }
+    }
+
+    /**
+     * The status and body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final byte[] body;
+
+        private Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(byte[] body) {
+            return new Response(STATUS_OK, body);
+        }
+
+        static Response error(int status, String message) {
+            try {
+                return new Response(status, JsonUtil.toJsonBytes(Map.of("error", message)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.PersonWithDetails;
+import seedu.address.model.task.Task;
+import seedu.address.storage.JsonAdaptedGroup;
+import seedu.address.storage.JsonAdaptedPerson;
+import seedu.address.storage.JsonAdaptedTask;
+
+/**
+ * Jackson-friendly version of {@link PersonWithDetails}, as sent by the API server.
+ * The student, groups and tasks are written as they are in the data file.
+ */
+class JsonAdaptedPersonDetails {
+
+    private final JsonAdaptedPerson person;
+    private final List<JsonAdaptedGroup> groups = new ArrayList<>();
+    private final List<AssignedTask> tasks = new ArrayList<>();
+
+    /**
+     * Converts a given {@code PersonWithDetails} into this class for Jackson use.
+     */
+    JsonAdaptedPersonDetails(PersonWithDetails source) {
+        person = new JsonAdaptedPerson(source.getPerson());
+        source.getGroups().forEach(group -> groups.add(new JsonAdaptedGroup(group.getGroup())));
+        source.getTasksCompletion().forEach((task, isDone) -> tasks.add(new AssignedTask(task, isDone)));
+    }
+
+    /**
+     * A task assigned to the student, and whether the student has done it.
+     */
+    private static class AssignedTask {
+        private final JsonAdaptedTask task;
+        private final boolean isDone;
+
+        AssignedTask(Task task, boolean isDone) {
+            this.task = new JsonAdaptedTask(task);
+            this.isDone = isDone;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.lesson.Attendee;
+import seedu.address.model.lesson.LessonWithAttendees;
+import seedu.address.storage.JsonAdaptedLesson;
+
+/**
+ * Jackson-friendly version of {@link LessonWithAttendees}, as sent by the API server.
+ */
+class JsonAdaptedScheduleEntry {
+
+    private final JsonAdaptedLesson lesson;
+    private final List<String> attendees;
+
+    /**
+     * Converts a given {@code LessonWithAttendees} into this class for Jackson use.
+     */
+    JsonAdaptedScheduleEntry(LessonWithAttendees source) {
+        lesson = new JsonAdaptedLesson(source.getLesson());
+        attendees = source.getAttendeeList().stream()
+                .map(Attendee::getAttendeeDetails)
+                .collect(Collectors.toList());
+    }
+}
@@ -17,6 +17,11 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the number of bytes the data takes up on the hard disk, or 0 if nothing has been saved yet.
+     */
+    long getDataSize();
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
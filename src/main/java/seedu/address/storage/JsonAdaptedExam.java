@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -49,7 +50,7 @@ public class JsonAdaptedExam {
             throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
         }
 
-        Subject subject = new Subject(this.subject);
+        Subject subject = Subject.ofTrusted(this.subject);
 
         LocalDateTime localDateTime;
         try {
@@ -60,4 +61,13 @@ public class JsonAdaptedExam {
 
         return new Exam(subject, localDateTime);
     }
+
+    /**
+     * Converts this adapted exam into the model's {@code Exam} object without validating it.
+     */
+    public Exam toTrustedModelType() {
+        LocalDateTime localDateTime = LocalDateTime.parse(datetime,
+                DateTimeFormatter.ofPattern(ParserUtil.DATE_TIME_FORMAT));
+        return new Exam(Subject.ofTrusted(subject), localDateTime);
+    }
 }
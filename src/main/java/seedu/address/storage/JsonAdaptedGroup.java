@@ -23,7 +23,7 @@ public class JsonAdaptedGroup {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Group's %s field is missing!";
 
-    private final String uniqueId;
+    private final JsonAdaptedUniqueId uniqueId;
     private final String groupName;
     private final List<JsonAdaptedUniqueId> assignedPersonIds = new ArrayList<>();
     private final List<JsonAdaptedUniqueId> assignedTaskIds = new ArrayList<>();
@@ -37,7 +37,7 @@ public class JsonAdaptedGroup {
                             @JsonProperty("assignedPersonIds") List<JsonAdaptedUniqueId> assignedPersonIds,
                              @JsonProperty("assignedTaskIds") List<JsonAdaptedUniqueId> assignedTaskIds,
                              @JsonProperty("lessonsList") List<JsonAdaptedLesson> lessonsList) {
-        this.uniqueId = uniqueId;
+        this.uniqueId = uniqueId == null ? null : new JsonAdaptedUniqueId(uniqueId);
         this.groupName = groupName;
         if (assignedPersonIds != null) {
             this.assignedPersonIds.addAll(assignedPersonIds);
@@ -54,13 +54,21 @@ public class JsonAdaptedGroup {
      * Converts a given {@code Group} into this class for Jackson use.
      */
     public JsonAdaptedGroup(Group source) {
-        uniqueId = source.getId().getUuid().toString();
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Group} into this class for Jackson use, referring to ids by their handles in
+     * {@code idTable} if there is one.
+     */
+    public JsonAdaptedGroup(Group source, JsonIdTable idTable) {
+        uniqueId = JsonAdaptedUniqueId.of(source.getId(), idTable);
         groupName = source.getName().name;
         assignedPersonIds.addAll(source.getAssignedPersonIds().stream()
-                .map(JsonAdaptedUniqueId::new)
+                .map(id -> JsonAdaptedUniqueId.of(id, idTable))
                 .collect(Collectors.toList()));
         assignedTaskIds.addAll(source.getAssignedTaskIds().stream()
-                .map(JsonAdaptedUniqueId::new)
+                .map(id -> JsonAdaptedUniqueId.of(id, idTable))
                 .collect(Collectors.toList()));
         lessonsList.addAll(source.getLessons().stream()
                 .map(JsonAdaptedLesson::new)
@@ -73,14 +81,24 @@ public class JsonAdaptedGroup {
      * @throws IllegalValueException if there were any data constraints violated in the adapted group.
      */
     public Group toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted group object into the model's {@code Group} object, looking up the
+     * ids it refers to as handles in {@code idTable} if there is one.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted group.
+     */
+    public Group toModelType(JsonIdTable idTable) throws IllegalValueException {
         final List<UniqueId> groupAssignedPersonIds = new ArrayList<>();
         for (JsonAdaptedUniqueId id : assignedPersonIds) {
-            groupAssignedPersonIds.add(id.toModelType());
+            groupAssignedPersonIds.add(id.toModelType(idTable));
         }
 
         final List<UniqueId> groupAssignedTaskIds = new ArrayList<>();
         for (JsonAdaptedUniqueId id : assignedTaskIds) {
-            groupAssignedTaskIds.add(id.toModelType());
+            groupAssignedTaskIds.add(id.toModelType(idTable));
         }
 
         if (groupName == null) {
@@ -90,7 +108,7 @@ public class JsonAdaptedGroup {
         if (!GroupName.isValidName(groupName)) {
             throw new IllegalValueException(GroupName.MESSAGE_CONSTRAINTS);
         }
-        final GroupName modelName = new GroupName(groupName);
+        final GroupName modelName = GroupName.ofTrusted(groupName);
 
         final Set<UniqueId> modelAssignedPersonIds = new HashSet<>(groupAssignedPersonIds);
 
@@ -110,9 +128,41 @@ public class JsonAdaptedGroup {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     UniqueId.class.getSimpleName()));
         }
-        final UniqueId modelUniqueId = UniqueId.generateId(uniqueId);
+        final UniqueId modelUniqueId = uniqueId.toModelType(idTable);
 
         return new Group(modelName, modelUniqueId, modelAssignedTaskIds, modelAssignedPersonIds, lessonsList);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted group object into the model's {@code Group} object
+     * without validating its name or checking its lessons for overlaps.
+     */
+    public Group toTrustedModelType() {
+        return toTrustedModelType(null);
+    }
+
+    /**
+     * Similar to {@link #toTrustedModelType()}, but looks up the ids it refers to as handles in {@code idTable} if
+     * there is one.
+     */
+    public Group toTrustedModelType(JsonIdTable idTable) {
+        final Set<UniqueId> modelAssignedPersonIds = new HashSet<>();
+        for (JsonAdaptedUniqueId id : assignedPersonIds) {
+            modelAssignedPersonIds.add(id.toTrustedModelType(idTable));
+        }
+
+        final Set<UniqueId> modelAssignedTaskIds = new HashSet<>();
+        for (JsonAdaptedUniqueId id : assignedTaskIds) {
+            modelAssignedTaskIds.add(id.toTrustedModelType(idTable));
+        }
+
+        final List<Lesson> modelLessonsList = new ArrayList<>();
+        for (JsonAdaptedLesson l : lessonsList) {
+            modelLessonsList.add(l.toTrustedModelType());
+        }
+
+        return new Group(GroupName.ofTrusted(groupName), uniqueId.toTrustedModelType(idTable), modelAssignedTaskIds,
+                modelAssignedPersonIds, NoOverlapLessonList.ofTrusted(modelLessonsList));
+    }
+
 }
@@ -56,7 +56,7 @@ public class JsonAdaptedLesson {
             throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
         }
 
-        Subject subject = new Subject(this.subject);
+        Subject subject = Subject.ofTrusted(this.subject);
 
         if (!ValidateUtil.validDayOfWeekInteger(dayOfWeek)) {
             throw new IllegalValueException(ValidateUtil.DAY_OF_WEEK_CONSTRAINTS);
@@ -67,5 +67,11 @@ public class JsonAdaptedLesson {
         return new Lesson(timeslot, subject, dayOfWeek);
     }
 
+    /**
+     * Converts this adapted lesson into the model's {@code Lesson} object without validating it.
+     */
+    public Lesson toTrustedModelType() {
+        return new Lesson(timeslot.toTrustedModelType(), Subject.ofTrusted(subject), DayOfWeek.of(dayOfWeek));
+    }
 
 }
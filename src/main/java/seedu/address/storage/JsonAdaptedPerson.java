@@ -26,11 +26,11 @@ import seedu.address.model.tag.Tag;
 /**
  * Jackson-friendly version of {@link Person}.
  */
-class JsonAdaptedPerson {
+public class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
-    private final String uniqueId;
+    private final JsonAdaptedUniqueId uniqueId;
     private final String name;
     private final String phone;
     private final String email;
@@ -54,7 +54,7 @@ class JsonAdaptedPerson {
             @JsonProperty("tasksCompletion") List<JsonAdaptedTaskCompletion> tasksCompletion,
             @JsonProperty("lessonsList") List<JsonAdaptedLesson> lessonsList,
             @JsonProperty("exams") List<JsonAdaptedExam> exams) {
-        this.uniqueId = uniqueId;
+        this.uniqueId = uniqueId == null ? null : new JsonAdaptedUniqueId(uniqueId);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -83,7 +83,15 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
-        uniqueId = source.getId().getUuid().toString();
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use, referring to ids by their handles in
+     * {@code idTable} if there is one.
+     */
+    public JsonAdaptedPerson(Person source, JsonIdTable idTable) {
+        uniqueId = JsonAdaptedUniqueId.of(source.getId(), idTable);
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -92,13 +100,13 @@ class JsonAdaptedPerson {
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
         assignedTaskIds.addAll(source.getAssignedTaskIds().stream()
-                .map(JsonAdaptedUniqueId::new)
+                .map(id -> JsonAdaptedUniqueId.of(id, idTable))
                 .collect(Collectors.toList()));
         assignedGroupIds.addAll(source.getAssignedGroupIds().stream()
-                .map(JsonAdaptedUniqueId::new)
+                .map(id -> JsonAdaptedUniqueId.of(id, idTable))
                 .collect(Collectors.toList()));
         source.getTasksCompletion().forEach((taskId, isDone) -> {
-            tasksCompletion.add(new JsonAdaptedTaskCompletion(taskId.getUuid().toString(), isDone));
+            tasksCompletion.add(new JsonAdaptedTaskCompletion(JsonAdaptedUniqueId.of(taskId, idTable), isDone));
         });
         lessonsList.addAll(source.getLessonsList().getLessons().stream()
                 .map(JsonAdaptedLesson::new)
@@ -113,6 +121,16 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, looking up the
+     * ids it refers to as handles in {@code idTable} if there is one.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(JsonIdTable idTable) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             personTags.add(tag.toModelType());
@@ -120,17 +138,17 @@ class JsonAdaptedPerson {
 
         final List<UniqueId> personAssignedTaskIds = new ArrayList<>();
         for (JsonAdaptedUniqueId id : assignedTaskIds) {
-            personAssignedTaskIds.add(id.toModelType());
+            personAssignedTaskIds.add(id.toModelType(idTable));
         }
 
         final List<UniqueId> personAssignedGroupIds = new ArrayList<>();
         for (JsonAdaptedUniqueId id : assignedGroupIds) {
-            personAssignedGroupIds.add(id.toModelType());
+            personAssignedGroupIds.add(id.toModelType(idTable));
         }
 
         final Map<UniqueId, Boolean> personTasksCompletion = new HashMap<>();
         for (JsonAdaptedTaskCompletion taskCompletion : tasksCompletion) {
-            personTasksCompletion.put(taskCompletion.getModelTaskId(), taskCompletion.getModelIsDone());
+            personTasksCompletion.put(taskCompletion.getModelTaskId(idTable), taskCompletion.getModelIsDone());
         }
 
         if (name == null) {
@@ -139,7 +157,7 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofTrusted(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -147,7 +165,7 @@ class JsonAdaptedPerson {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.ofTrusted(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -155,7 +173,7 @@ class JsonAdaptedPerson {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.ofTrusted(email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -163,7 +181,7 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.ofTrusted(address);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Set<UniqueId> modelAssignedTaskIds = new HashSet<>(personAssignedTaskIds);
@@ -184,7 +202,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     UniqueId.class.getSimpleName()));
         }
-        final UniqueId modelUniqueId = UniqueId.generateId(uniqueId);
+        final UniqueId modelUniqueId = uniqueId.toModelType(idTable);
 
         final List<Exam> modelExams = new ArrayList<>();
         for (JsonAdaptedExam e : exams) {
@@ -196,4 +214,55 @@ class JsonAdaptedPerson {
                 lessonsList, modelExams, modelAssignedGroupIds);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object
+     * without validating any of its fields.
+     * Only used when the data file is known to have been written by this app and left unchanged since,
+     * as all of its values were validated before being saved.
+     */
+    public Person toTrustedModelType() {
+        return toTrustedModelType(null);
+    }
+
+    /**
+     * Similar to {@link #toTrustedModelType()}, but looks up the ids it refers to as handles in {@code idTable} if
+     * there is one.
+     */
+    public Person toTrustedModelType(JsonIdTable idTable) {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+
+        final Set<UniqueId> modelAssignedTaskIds = new HashSet<>();
+        for (JsonAdaptedUniqueId id : assignedTaskIds) {
+            modelAssignedTaskIds.add(id.toTrustedModelType(idTable));
+        }
+
+        final Set<UniqueId> modelAssignedGroupIds = new HashSet<>();
+        for (JsonAdaptedUniqueId id : assignedGroupIds) {
+            modelAssignedGroupIds.add(id.toTrustedModelType(idTable));
+        }
+
+        final Map<UniqueId, Boolean> modelTasksCompletion = new HashMap<>();
+        for (JsonAdaptedTaskCompletion taskCompletion : tasksCompletion) {
+            modelTasksCompletion.put(taskCompletion.getTrustedModelTaskId(idTable), taskCompletion.getModelIsDone());
+        }
+
+        final List<Lesson> modelLessonsList = new ArrayList<>();
+        for (JsonAdaptedLesson l : lessonsList) {
+            modelLessonsList.add(l.toTrustedModelType());
+        }
+
+        final List<Exam> modelExams = new ArrayList<>();
+        for (JsonAdaptedExam e : exams) {
+            modelExams.add(e.toTrustedModelType());
+        }
+
+        return new Person(uniqueId.toTrustedModelType(idTable), Name.ofTrusted(name), Phone.ofTrusted(phone),
+                Email.ofTrusted(email), Address.ofTrusted(address), modelTags, modelAssignedTaskIds,
+                modelTasksCompletion, NoOverlapLessonList.ofTrusted(modelLessonsList), modelExams,
+                modelAssignedGroupIds);
+    }
+
 }
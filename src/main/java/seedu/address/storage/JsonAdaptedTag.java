@@ -42,7 +42,15 @@ class JsonAdaptedTag {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.ofTrusted(tagName);
+    }
+
+    /**
+     * Converts this adapted tag into the model's {@code Tag} object without validating it.
+     * Only used for data files that were written by this app and have not changed since.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName);
     }
 
 }
@@ -20,7 +20,7 @@ public class JsonAdaptedTask {
 
     private final String name;
     private final String deadline;
-    private final String uniqueId;
+    private final JsonAdaptedUniqueId uniqueId;
 
     /**
      * Constructs a {@code JsonAdaptedTask} with the given task details.
@@ -30,17 +30,25 @@ public class JsonAdaptedTask {
                            @JsonProperty("uniqueId") String uniqueId) {
         this.name = name;
         this.deadline = deadline;
-        this.uniqueId = uniqueId;
+        this.uniqueId = uniqueId == null ? null : new JsonAdaptedUniqueId(uniqueId);
     }
 
     /**
      * Converts a given {@code Task} into this class for Jackson use.
      */
     public JsonAdaptedTask(Task source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Task} into this class for Jackson use, saving its id as its handle in
+     * {@code idTable} if there is one.
+     */
+    public JsonAdaptedTask(Task source, JsonIdTable idTable) {
         name = source.getDescription().description;
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         deadline = source.getDeadline().deadline.format(formatter);
-        uniqueId = source.getId().getUuid().toString();
+        uniqueId = JsonAdaptedUniqueId.of(source.getId(), idTable);
     }
 
     /**
@@ -49,6 +57,16 @@ public class JsonAdaptedTask {
      * @throws IllegalValueException if there were any data constraints violated in the adapted task.
      */
     public Task toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted task object into the model's {@code Task} object, looking up its id as
+     * a handle in {@code idTable} if there is one.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task.
+     */
+    public Task toModelType(JsonIdTable idTable) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Description.class.getSimpleName()));
@@ -56,26 +74,40 @@ public class JsonAdaptedTask {
         if (!Description.isValidDescription(name)) {
             throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
         }
-        final Description modelDescription = new Description(name);
+        final Description modelDescription = Description.ofTrusted(name);
 
         if (deadline == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Deadline.class.getSimpleName()));
         }
-        if (!Deadline.isValidDeadline(deadline)) {
-            throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
-        }
-        final Deadline modelDeadline = new Deadline(deadline);
+        final Deadline modelDeadline = Deadline.parse(deadline)
+                .orElseThrow(() -> new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS));
 
         if (uniqueId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     UniqueId.class.getSimpleName()));
         }
 
-        final UniqueId modelUniqueId = UniqueId.generateId(uniqueId);
+        final UniqueId modelUniqueId = uniqueId.toModelType(idTable);
 
         Task task = new Task(modelDescription, modelDeadline, modelUniqueId);
         modelUniqueId.setOwner(task);
         return task;
     }
+
+    /**
+     * Converts this Jackson-friendly adapted task object into the model's {@code Task} object
+     * without validating its description and deadline.
+     */
+    public Task toTrustedModelType() {
+        return toTrustedModelType(null);
+    }
+
+    /**
+     * Similar to {@link #toTrustedModelType()}, but looks up its id as a handle in {@code idTable} if there is one.
+     */
+    public Task toTrustedModelType(JsonIdTable idTable) {
+        return new Task(Description.ofTrusted(name), Deadline.ofTrusted(deadline),
+                uniqueId.toTrustedModelType(idTable));
+    }
 }
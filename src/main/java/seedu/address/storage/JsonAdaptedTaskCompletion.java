@@ -3,13 +3,14 @@ package seedu.address.storage;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.id.UniqueId;
 
 /**
  * Jackson-friendly version of individual mappings in {@code tasksCompletion}.
  */
 public class JsonAdaptedTaskCompletion {
-    private final String taskIdString;
+    private final JsonAdaptedUniqueId taskIdString;
     private final boolean isDone;
 
     /**
@@ -18,7 +19,14 @@ public class JsonAdaptedTaskCompletion {
     @JsonCreator
     public JsonAdaptedTaskCompletion(@JsonProperty("taskIdString") String taskIdString,
             @JsonProperty("isDone") boolean isDone) {
-        this.taskIdString = taskIdString;
+        this(new JsonAdaptedUniqueId(taskIdString), isDone);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedTaskCompletion} with the given adapted {@code taskId} and {@code isDone}.
+     */
+    public JsonAdaptedTaskCompletion(JsonAdaptedUniqueId taskId, boolean isDone) {
+        this.taskIdString = taskId;
         this.isDone = isDone;
     }
 
@@ -26,7 +34,24 @@ public class JsonAdaptedTaskCompletion {
      * Converts this Jackson-friendly task id String into the model's {@code UniqueId} object.
      */
     public UniqueId getModelTaskId() {
-        return UniqueId.generateId(taskIdString);
+        return taskIdString.toModelType();
+    }
+
+    /**
+     * Converts this Jackson-friendly task id into the model's {@code UniqueId} object, looking it up as a handle in
+     * {@code idTable} if there is one.
+     *
+     * @throws IllegalValueException if {@code idTable} has no id with this handle.
+     */
+    public UniqueId getModelTaskId(JsonIdTable idTable) throws IllegalValueException {
+        return taskIdString.toModelType(idTable);
+    }
+
+    /**
+     * Similar to {@link #getModelTaskId(JsonIdTable)}, but trusts the task id to be a handle in {@code idTable}.
+     */
+    public UniqueId getTrustedModelTaskId(JsonIdTable idTable) {
+        return taskIdString.toTrustedModelType(idTable);
     }
 
     /**
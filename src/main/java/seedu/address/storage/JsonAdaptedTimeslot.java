@@ -44,9 +44,14 @@ public class JsonAdaptedTimeslot {
                     Timeslot.class.getSimpleName()));
         }
 
-        if (!Timeslot.isValidTimeslot(startTime, endTime)) {
-            throw new IllegalValueException(Timeslot.MESSAGE_CONSTRAINTS);
-        }
-        return new Timeslot(startTime, endTime);
+        return Timeslot.parse(startTime, endTime)
+                .orElseThrow(() -> new IllegalValueException(Timeslot.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Converts this adapted timeslot into the model's {@code Timeslot} object without validating it.
+     */
+    public Timeslot toTrustedModelType() {
+        return Timeslot.ofTrusted(startTime, endTime);
     }
 }
@@ -3,14 +3,17 @@ package seedu.address.storage;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.id.UniqueId;
 
 /**
  * Jackson-friendly version of {@link UniqueId}.
+ * It holds either the id itself or, in the id table layout, the handle of the id in a {@link JsonIdTable}.
  */
 public class JsonAdaptedUniqueId {
 
     private final String id;
+    private final boolean isHandle;
 
     /**
      * Constructs a {@code JsonAdaptedUniqueId} with the given {@code id}.
@@ -18,20 +21,42 @@ public class JsonAdaptedUniqueId {
     @JsonCreator
     public JsonAdaptedUniqueId(String id) {
         this.id = id;
+        this.isHandle = false;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedUniqueId} with the given {@code handle} into an id table.
+     */
+    @JsonCreator
+    public JsonAdaptedUniqueId(int handle) {
+        this.id = String.valueOf(handle);
+        this.isHandle = true;
     }
 
     /**
      * Converts a given {@code UniqueId} into this class for Jackson use.
      */
     public JsonAdaptedUniqueId(UniqueId source) {
-        id = source.getUuid().toString();
+        this(source.getUuid().toString());
+    }
+
+    /**
+     * Converts a given {@code UniqueId} into this class for Jackson use, as its handle in {@code idTable} if there is
+     * one, or as the id itself otherwise.
+     */
+    public static JsonAdaptedUniqueId of(UniqueId source, JsonIdTable idTable) {
+        return idTable == null ? new JsonAdaptedUniqueId(source) : new JsonAdaptedUniqueId(idTable.getHandle(source));
     }
 
-    @JsonValue
     public String getId() {
         return id;
     }
 
+    @JsonValue
+    public Object getJsonValue() {
+        return isHandle ? (Object) Integer.valueOf(id) : id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted id object into the model's {@code UniqueId} object.
      */
@@ -39,4 +64,21 @@ public class JsonAdaptedUniqueId {
         return UniqueId.generateId(id);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted id object into the model's {@code UniqueId} object, looking it up as a
+     * handle in {@code idTable} if there is one.
+     *
+     * @throws IllegalValueException if {@code idTable} has no id with this handle.
+     */
+    public UniqueId toModelType(JsonIdTable idTable) throws IllegalValueException {
+        return idTable == null ? toModelType() : idTable.getUniqueId(id);
+    }
+
+    /**
+     * Similar to {@link #toModelType(JsonIdTable)}, but trusts this handle to be in {@code idTable}.
+     */
+    public UniqueId toTrustedModelType(JsonIdTable idTable) {
+        return idTable == null ? toModelType() : idTable.getTrustedUniqueId(id);
+    }
+
 }
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+/**
+ * Jackson-friendly list of the ids of all persons, tasks and groups kept by a
+ * {@link JsonDirectoryAddressBookStorage}, in the order they appear in the address book.
+ */
+@JsonRootName(value = "manifest")
+class JsonAddressBookManifest {
+
+    private final List<String> personIds = new ArrayList<>();
+    private final List<String> taskIds = new ArrayList<>();
+    private final List<String> groupIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookManifest} with the given ids.
+     */
+    @JsonCreator
+    public JsonAddressBookManifest(@JsonProperty("personIds") List<String> personIds,
+                                   @JsonProperty("taskIds") List<String> taskIds,
+                                   @JsonProperty("groupIds") List<String> groupIds) {
+        if (personIds != null) {
+            this.personIds.addAll(personIds);
+        }
+        if (taskIds != null) {
+            this.taskIds.addAll(taskIds);
+        }
+        if (groupIds != null) {
+            this.groupIds.addAll(groupIds);
+        }
+    }
+
+    public List<String> getPersonIds() {
+        return personIds;
+    }
+
+    public List<String> getTaskIds() {
+        return taskIds;
+    }
+
+    public List<String> getGroupIds() {
+        return groupIds;
+    }
+
+}
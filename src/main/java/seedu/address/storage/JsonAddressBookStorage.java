@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -16,21 +17,52 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Every save also records a checksum of the file next to it. If the file still matches that checksum when it is read,
+ * it is loaded without validating its contents again; otherwise (e.g. the file was edited by hand) it is fully
+ * validated.
+ * <p>
+ * The file can be saved GZIP compressed, which makes it several times smaller at the cost of some time to compress
+ * it. Compressed and plain files are told apart from their first bytes when read, whichever way this storage saves.
+ * Likewise, files in the id table layout, in which entities refer to each other by small integer handles instead of
+ * their full ids, are always read, but only written when asked for.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String CHECKSUM_FILE_SUFFIX = ".sha256";
+
     private Path filePath;
+    private boolean isCompressed;
+    private boolean isUsingIdTable;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, false);
+    }
+
+    public JsonAddressBookStorage(Path filePath, boolean isCompressed) {
+        this(filePath, isCompressed, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath}, GZIP compressed if
+     * {@code isCompressed}, and in the id table layout if {@code isUsingIdTable}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompressed, boolean isUsingIdTable) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
+        this.isUsingIdTable = isUsingIdTable;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    @Override
+    public long getDataSize() {
+        return FileUtil.getTotalSize(filePath);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
         return readAddressBook(filePath);
@@ -45,12 +77,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        boolean isTrusted = isUnchangedSinceLastSave(filePath);
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (!jsonAddressBook.isPresent()) {
             return Optional.empty();
         }
 
+        if (isTrusted) {
+            try {
+                return Optional.of(jsonAddressBook.get().toTrustedModelType());
+            } catch (RuntimeException e) {
+                logger.warning("Could not load " + filePath + " without validation, validating it instead: " + e);
+            }
+        }
+
         try {
             return Optional.of(jsonAddressBook.get().toModelType());
         } catch (IllegalValueException ive) {
@@ -73,8 +114,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        long startTime = System.nanoTime();
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook, isUsingIdTable), filePath,
+                isCompressed);
+        logger.fine(String.format("Saved %s (%s) of %d bytes in %d ms", filePath,
+                isCompressed ? "compressed" : "uncompressed", Files.size(filePath),
+                (System.nanoTime() - startTime) / 1_000_000));
+        FileUtil.writeToFile(getChecksumFilePath(filePath), FileUtil.computeChecksum(filePath));
+    }
+
+    /**
+     * Returns the path of the sidecar file that holds the checksum of the data file at {@code filePath}
+     * as of the last time this app saved it.
+     */
+    static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} still matches the checksum recorded when it was last saved,
+     * i.e. it was written (and hence validated) by this app and has not been edited since.
+     */
+    private boolean isUnchangedSinceLastSave(Path filePath) {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        if (!FileUtil.isFileExists(filePath) || !FileUtil.isFileExists(checksumFilePath)) {
+            return false;
+        }
+
+        try {
+            String savedChecksum = FileUtil.readFromFile(checksumFilePath).trim();
+            return savedChecksum.equals(FileUtil.computeChecksum(filePath));
+        } catch (IOException e) {
+            logger.warning("Could not verify checksum of " + filePath + ": " + e);
+            return false;
+        }
     }
 
 }
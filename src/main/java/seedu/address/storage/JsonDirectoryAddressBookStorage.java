@@ -0,0 +1,234 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.id.HasUniqueId;
+import seedu.address.model.id.UniqueId;
+
+/**
+ * A class to access AddressBook data stored as a directory of small json files on the hard disk.
+ * Every person, task and group is kept in its own record file named after its {@code UniqueId}, and a manifest
+ * lists the ids of all of them in order.
+ * <p>
+ * As the model replaces an entity with a new object whenever it changes, a save only has to write the records of
+ * entities that are not the very same objects as those seen by the previous save or read of the same directory.
+ */
+public class JsonDirectoryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String PERSONS_DIRECTORY_NAME = "persons";
+    public static final String TASKS_DIRECTORY_NAME = "tasks";
+    public static final String GROUPS_DIRECTORY_NAME = "groups";
+
+    public static final String MESSAGE_MISSING_RECORD = "Record file %s listed in the manifest is missing!";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonDirectoryAddressBookStorage.class);
+
+    private static final String RECORD_FILE_EXTENSION = ".json";
+
+    private Path directoryPath;
+
+    /** Directory that the snapshots below were last read from or saved to. */
+    private Path snapshotDirectoryPath;
+    private Map<UniqueId, HasUniqueId> personSnapshot = Collections.emptyMap();
+    private Map<UniqueId, HasUniqueId> taskSnapshot = Collections.emptyMap();
+    private Map<UniqueId, HasUniqueId> groupSnapshot = Collections.emptyMap();
+
+    public JsonDirectoryAddressBookStorage(Path directoryPath) {
+        this.directoryPath = directoryPath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public long getDataSize() {
+        return FileUtil.getTotalSize(directoryPath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataConversionException if any of the files is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath) throws DataConversionException {
+        requireNonNull(directoryPath);
+
+        Optional<JsonAddressBookManifest> manifest = JsonUtil.readJsonFile(
+                directoryPath.resolve(MANIFEST_FILE_NAME), JsonAddressBookManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(
+                readRecords(directoryPath.resolve(PERSONS_DIRECTORY_NAME), manifest.get().getPersonIds(),
+                        JsonAdaptedPerson.class),
+                readRecords(directoryPath.resolve(TASKS_DIRECTORY_NAME), manifest.get().getTaskIds(),
+                        JsonAdaptedTask.class),
+                readRecords(directoryPath.resolve(GROUPS_DIRECTORY_NAME), manifest.get().getGroupIds(),
+                        JsonAdaptedGroup.class));
+
+        AddressBook addressBook;
+        try {
+            addressBook = jsonAddressBook.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        personSnapshot = toSnapshot(addressBook.getPersonList());
+        taskSnapshot = toSnapshot(addressBook.getTaskList());
+        groupSnapshot = toSnapshot(addressBook.getGroupList());
+        snapshotDirectoryPath = directoryPath;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The records of new and changed entities are written first, then the manifest, and only then are the records of
+     * removed entities deleted, so that the manifest never lists a record that does not exist.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+
+        boolean isSnapshotOfDirectory = directoryPath.equals(snapshotDirectoryPath);
+        Map<UniqueId, HasUniqueId> previousPersons = isSnapshotOfDirectory ? personSnapshot : Collections.emptyMap();
+        Map<UniqueId, HasUniqueId> previousTasks = isSnapshotOfDirectory ? taskSnapshot : Collections.emptyMap();
+        Map<UniqueId, HasUniqueId> previousGroups = isSnapshotOfDirectory ? groupSnapshot : Collections.emptyMap();
+
+        Path personsPath = directoryPath.resolve(PERSONS_DIRECTORY_NAME);
+        Path tasksPath = directoryPath.resolve(TASKS_DIRECTORY_NAME);
+        Path groupsPath = directoryPath.resolve(GROUPS_DIRECTORY_NAME);
+
+        Map<UniqueId, HasUniqueId> currentPersons = saveChangedRecords(addressBook.getPersonList(), previousPersons,
+                personsPath, JsonAdaptedPerson::new);
+        Map<UniqueId, HasUniqueId> currentTasks = saveChangedRecords(addressBook.getTaskList(), previousTasks,
+                tasksPath, JsonAdaptedTask::new);
+        Map<UniqueId, HasUniqueId> currentGroups = saveChangedRecords(addressBook.getGroupList(), previousGroups,
+                groupsPath, JsonAdaptedGroup::new);
+
+        Path manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        FileUtil.createIfMissing(manifestPath);
+        JsonUtil.saveJsonFile(new JsonAddressBookManifest(toIdStrings(currentPersons), toIdStrings(currentTasks),
+                toIdStrings(currentGroups)), manifestPath);
+
+        deleteRemovedRecords(previousPersons, currentPersons, personsPath);
+        deleteRemovedRecords(previousTasks, currentTasks, tasksPath);
+        deleteRemovedRecords(previousGroups, currentGroups, groupsPath);
+
+        personSnapshot = currentPersons;
+        taskSnapshot = currentTasks;
+        groupSnapshot = currentGroups;
+        snapshotDirectoryPath = directoryPath;
+    }
+
+    /**
+     * Returns the path of the record file of the entity with {@code id} in {@code recordsPath}.
+     */
+    static Path getRecordFilePath(Path recordsPath, UniqueId id) {
+        return recordsPath.resolve(id.getUuid() + RECORD_FILE_EXTENSION);
+    }
+
+    /**
+     * Writes the record of every item in {@code items} that is not the same object as the item with the same id in
+     * {@code previous}, and returns the id to item map of all of {@code items}.
+     */
+    private static <T extends HasUniqueId> Map<UniqueId, HasUniqueId> saveChangedRecords(List<T> items,
+            Map<UniqueId, HasUniqueId> previous, Path recordsPath, Function<T, ?> toJsonAdapted) throws IOException {
+        Map<UniqueId, HasUniqueId> current = new LinkedHashMap<>();
+        int writtenCount = 0;
+        for (T item : items) {
+            current.put(item.getId(), item);
+            if (previous.get(item.getId()) != item) {
+                Path recordPath = getRecordFilePath(recordsPath, item.getId());
+                FileUtil.createIfMissing(recordPath);
+                JsonUtil.saveJsonFile(toJsonAdapted.apply(item), recordPath);
+                writtenCount++;
+            }
+        }
+        logger.fine("Wrote " + writtenCount + " of " + items.size() + " records in " + recordsPath);
+        return current;
+    }
+
+    /**
+     * Deletes the record of every item in {@code previous} that is no longer in {@code current}.
+     */
+    private static void deleteRemovedRecords(Map<UniqueId, HasUniqueId> previous,
+            Map<UniqueId, HasUniqueId> current, Path recordsPath) throws IOException {
+        for (UniqueId id : previous.keySet()) {
+            if (!current.containsKey(id)) {
+                Files.deleteIfExists(getRecordFilePath(recordsPath, id));
+            }
+        }
+    }
+
+    /**
+     * Reads the records with the given {@code ids} from {@code recordsPath}, in order.
+     */
+    private static <T> List<T> readRecords(Path recordsPath, List<String> ids, Class<T> recordClass)
+            throws DataConversionException {
+        List<T> records = new ArrayList<>();
+        for (String id : ids) {
+            Path recordPath = recordsPath.resolve(id + RECORD_FILE_EXTENSION);
+            Optional<T> record = JsonUtil.readJsonFile(recordPath, recordClass);
+            if (!record.isPresent()) {
+                throw new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, recordPath)));
+            }
+            records.add(record.get());
+        }
+        return records;
+    }
+
+    private static Map<UniqueId, HasUniqueId> toSnapshot(List<? extends HasUniqueId> items) {
+        Map<UniqueId, HasUniqueId> snapshot = new HashMap<>();
+        for (HasUniqueId item : items) {
+            snapshot.put(item.getId(), item);
+        }
+        return snapshot;
+    }
+
+    private static List<String> toIdStrings(Map<UniqueId, HasUniqueId> items) {
+        List<String> ids = new ArrayList<>();
+        for (UniqueId id : items.keySet()) {
+            ids.add(id.getUuid().toString());
+        }
+        return ids;
+    }
+
+}
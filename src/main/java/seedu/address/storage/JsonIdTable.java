@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.id.HasUniqueId;
+import seedu.address.model.id.UniqueId;
+
+/**
+ * A table of the ids of the persons, tasks and groups of an address book. In the id table layout of the json file,
+ * they are saved once in this table and everywhere else replaced by their index in it, their handle.
+ */
+class JsonIdTable {
+
+    public static final String MESSAGE_INVALID_ID = "Id table contains an invalid id!";
+    public static final String MESSAGE_INVALID_HANDLE = "Id handle %s does not refer to any id in the id table!";
+
+    private final List<UUID> ids = new ArrayList<>();
+    private final Map<UUID, Integer> handles = new HashMap<>();
+
+    private JsonIdTable() {}
+
+    /**
+     * Returns a table that gives the persons, tasks and groups of {@code source} consecutive handles, in that order.
+     */
+    public static JsonIdTable of(ReadOnlyAddressBook source) {
+        JsonIdTable idTable = new JsonIdTable();
+        for (List<? extends HasUniqueId> items : List.of(source.getPersonList(), source.getTaskList(),
+                source.getGroupList())) {
+            for (HasUniqueId item : items) {
+                idTable.getHandle(item.getId());
+            }
+        }
+        return idTable;
+    }
+
+    /**
+     * Returns a table of the given {@code ids}, which are each parsed once here and never again when looked up.
+     *
+     * @throws IllegalValueException if any of the ids is not a valid UUID.
+     */
+    public static JsonIdTable fromIds(List<String> ids) throws IllegalValueException {
+        try {
+            return fromTrustedIds(ids);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+    }
+
+    /**
+     * Similar to {@link #fromIds(List)}, but trusts all the ids to be valid UUIDs.
+     */
+    public static JsonIdTable fromTrustedIds(List<String> ids) {
+        JsonIdTable idTable = new JsonIdTable();
+        for (String id : ids) {
+            idTable.getHandle(UUID.fromString(id));
+        }
+        return idTable;
+    }
+
+    /**
+     * Returns the handle of {@code id}, adding it to the end of the table if it is not in the table yet.
+     */
+    public int getHandle(UniqueId id) {
+        return getHandle(id.getUuid());
+    }
+
+    private int getHandle(UUID id) {
+        Integer handle = handles.get(id);
+        if (handle == null) {
+            handle = ids.size();
+            ids.add(id);
+            handles.put(id, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the id that {@code handle} refers to.
+     *
+     * @throws IllegalValueException if {@code handle} is not the handle of any id in the table.
+     */
+    public UniqueId getUniqueId(String handle) throws IllegalValueException {
+        try {
+            return getTrustedUniqueId(handle);
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_HANDLE, handle));
+        }
+    }
+
+    /**
+     * Returns the id that {@code handle} refers to, which is trusted to be a handle in the table.
+     */
+    public UniqueId getTrustedUniqueId(String handle) {
+        return UniqueId.generateId(ids.get(Integer.parseInt(handle)));
+    }
+
+    /**
+     * Returns the ids in the table, in the order of their handles.
+     */
+    public List<String> getIds() {
+        List<String> idStrings = new ArrayList<>();
+        for (UUID id : ids) {
+            idStrings.add(id.toString());
+        }
+        return idStrings;
+    }
+
+}
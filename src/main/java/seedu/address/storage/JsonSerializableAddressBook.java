@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -17,6 +18,8 @@ import seedu.address.model.task.Task;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * In the id table layout, the ids of all persons, tasks and groups are listed once in {@code ids}, and the persons,
+ * tasks and groups refer to them by their index in that list instead.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
@@ -25,6 +28,8 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
     public static final String MESSAGE_DUPLICATE_GROUP = "Groups list contains duplicate group(s).";
 
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> ids = new ArrayList<>();
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
     private final List<JsonAdaptedGroup> groups = new ArrayList<>();
@@ -32,10 +37,22 @@ class JsonSerializableAddressBook {
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons and tasks.
      */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons, List<JsonAdaptedTask> tasks,
+                                       List<JsonAdaptedGroup> groups) {
+        this(null, persons, tasks, groups);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given id table, persons and tasks.
+     */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+    public JsonSerializableAddressBook(@JsonProperty("ids") List<String> ids,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
                                        @JsonProperty("groups") List<JsonAdaptedGroup> groups) {
+        if (ids != null) {
+            this.ids.addAll(ids);
+        }
         this.persons.addAll(persons);
         this.tasks.addAll(tasks);
         this.groups.addAll(groups);
@@ -47,9 +64,27 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        tasks.addAll(source.getTaskList().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
-        groups.addAll(source.getGroupList().stream().map(JsonAdaptedGroup::new).collect(Collectors.toList()));
+        this(source, false);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, in the id table layout if
+     * {@code isUsingIdTable} is true.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, boolean isUsingIdTable) {
+        JsonIdTable idTable = isUsingIdTable ? JsonIdTable.of(source) : null;
+        persons.addAll(source.getPersonList().stream()
+                .map(person -> new JsonAdaptedPerson(person, idTable)).collect(Collectors.toList()));
+        tasks.addAll(source.getTaskList().stream()
+                .map(task -> new JsonAdaptedTask(task, idTable)).collect(Collectors.toList()));
+        groups.addAll(source.getGroupList().stream()
+                .map(group -> new JsonAdaptedGroup(group, idTable)).collect(Collectors.toList()));
+        if (idTable != null) {
+            // taken last, as references to ids of entities that no longer exist are added to the table when met
+            ids.addAll(idTable.getIds());
+        }
     }
 
     /**
@@ -58,23 +93,24 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        JsonIdTable idTable = ids.isEmpty() ? null : JsonIdTable.fromIds(ids);
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+            Person person = jsonAdaptedPerson.toModelType(idTable);
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
         }
         for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
+            Task task = jsonAdaptedTask.toModelType(idTable);
             if (addressBook.hasTask(task)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
             }
             addressBook.addTask(task);
         }
         for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
-            Group group = jsonAdaptedGroup.toModelType();
+            Group group = jsonAdaptedGroup.toModelType(idTable);
             if (addressBook.hasGroup(group)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
             }
@@ -83,5 +119,25 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, skipping the validation done by
+     * {@link #toModelType()}.
+     * Only to be used when this address book was read from a file that this app wrote and that is unchanged since.
+     */
+    public AddressBook toTrustedModelType() {
+        JsonIdTable idTable = ids.isEmpty() ? null : JsonIdTable.fromTrustedIds(ids);
+        AddressBook addressBook = new AddressBook();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            addressBook.addPerson(jsonAdaptedPerson.toTrustedModelType(idTable));
+        }
+        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
+            addressBook.addTask(jsonAdaptedTask.toTrustedModelType(idTable));
+        }
+        for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
+            addressBook.addGroup(jsonAdaptedGroup.toTrustedModelType(idTable));
+        }
+        return addressBook;
+    }
+
 }
 
@@ -0,0 +1,621 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.id.HasUniqueId;
+import seedu.address.model.id.UniqueId;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Exam;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database on the hard disk.
+ * <p>
+ * Persons, tasks and groups are kept in their own tables, and their tags, lessons, exams, assignments and task
+ * completions in tables keyed by the id of the entity owning them. As the model replaces an entity with a new object
+ * whenever it changes, a save only upserts the rows of entities that are not the very same objects as those seen by
+ * the previous save or read of the same database, and deletes the rows of removed entities, all in one transaction.
+ * A read loads the whole address book with one query per table, however large it is.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:";
+
+    private static final String KIND_PERSON = "PERSON";
+    private static final String KIND_TASK = "TASK";
+    private static final String KIND_GROUP = "GROUP";
+
+    private static final String[] CREATE_TABLES = {
+        "CREATE TABLE IF NOT EXISTS persons (id VARCHAR(36) PRIMARY KEY, list_index INT NOT NULL, "
+                + "name VARCHAR NOT NULL, phone VARCHAR NOT NULL, email VARCHAR NOT NULL, address VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS tasks (id VARCHAR(36) PRIMARY KEY, list_index INT NOT NULL, "
+                + "description VARCHAR NOT NULL, deadline VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS student_groups (id VARCHAR(36) PRIMARY KEY, list_index INT NOT NULL, "
+                + "name VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS tags (owner_id VARCHAR(36) NOT NULL, tag VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS lessons (owner_id VARCHAR(36) NOT NULL, list_index INT NOT NULL, "
+                + "subject VARCHAR NOT NULL, day_of_week INT NOT NULL, start_time VARCHAR NOT NULL, "
+                + "end_time VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS exams (owner_id VARCHAR(36) NOT NULL, list_index INT NOT NULL, "
+                + "subject VARCHAR NOT NULL, date_time VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS assignments (owner_id VARCHAR(36) NOT NULL, kind VARCHAR(6) NOT NULL, "
+                + "assigned_id VARCHAR(36) NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS task_completions (owner_id VARCHAR(36) NOT NULL, task_id VARCHAR(36) NOT NULL, "
+                + "is_done BOOLEAN NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS tags_owner ON tags (owner_id)",
+        "CREATE INDEX IF NOT EXISTS lessons_owner ON lessons (owner_id)",
+        "CREATE INDEX IF NOT EXISTS exams_owner ON exams (owner_id)",
+        "CREATE INDEX IF NOT EXISTS assignments_owner ON assignments (owner_id)",
+        "CREATE INDEX IF NOT EXISTS task_completions_owner ON task_completions (owner_id)"
+    };
+
+    private static final String[] ALL_TABLES = {
+        "persons", "tasks", "student_groups", "tags", "lessons", "exams", "assignments", "task_completions"
+    };
+    private static final String[] PERSON_DETAIL_TABLES = {"tags", "lessons", "exams", "assignments",
+        "task_completions"};
+    private static final String[] GROUP_DETAIL_TABLES = {"lessons", "assignments"};
+    private static final String[] NO_DETAIL_TABLES = {};
+
+    private static final String UPSERT_PERSON = "MERGE INTO persons (id, list_index, name, phone, email, address) "
+            + "KEY (id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_TASK = "MERGE INTO tasks (id, list_index, description, deadline) "
+            + "KEY (id) VALUES (?, ?, ?, ?)";
+    private static final String UPSERT_GROUP = "MERGE INTO student_groups (id, list_index, name) "
+            + "KEY (id) VALUES (?, ?, ?)";
+    private static final String INSERT_TAG = "INSERT INTO tags (owner_id, tag) VALUES (?, ?)";
+    private static final String INSERT_LESSON = "INSERT INTO lessons "
+            + "(owner_id, list_index, subject, day_of_week, start_time, end_time) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EXAM = "INSERT INTO exams (owner_id, list_index, subject, date_time) "
+            + "VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ASSIGNMENT = "INSERT INTO assignments (owner_id, kind, assigned_id) "
+            + "VALUES (?, ?, ?)";
+    private static final String INSERT_TASK_COMPLETION = "INSERT INTO task_completions (owner_id, task_id, is_done) "
+            + "VALUES (?, ?, ?)";
+
+    private static final String SELECT_PERSONS = "SELECT id, list_index, name, phone, email, address FROM persons "
+            + "ORDER BY list_index";
+    private static final String SELECT_TASKS = "SELECT id, list_index, description, deadline FROM tasks "
+            + "ORDER BY list_index";
+    private static final String SELECT_GROUPS = "SELECT id, list_index, name FROM student_groups ORDER BY list_index";
+    private static final String SELECT_TAGS = "SELECT owner_id, tag FROM tags";
+    private static final String SELECT_LESSONS = "SELECT owner_id, subject, day_of_week, start_time, end_time "
+            + "FROM lessons ORDER BY owner_id, list_index";
+    private static final String SELECT_EXAMS = "SELECT owner_id, subject, date_time FROM exams "
+            + "ORDER BY owner_id, list_index";
+    private static final String SELECT_ASSIGNMENTS = "SELECT owner_id, kind, assigned_id FROM assignments";
+    private static final String SELECT_TASK_COMPLETIONS = "SELECT owner_id, task_id, is_done FROM task_completions";
+
+    private Path filePath;
+
+    /** Database that the snapshots below were last read from or saved to. */
+    private Path snapshotFilePath;
+    private TableSnapshot personSnapshot = new TableSnapshot();
+    private TableSnapshot taskSnapshot = new TableSnapshot();
+    private TableSnapshot groupSnapshot = new TableSnapshot();
+
+    /**
+     * Creates a {@code SqlAddressBookStorage} for the database at {@code filePath}, which is stored in the file
+     * with {@value #DATABASE_FILE_SUFFIX} appended to that path.
+     */
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public long getDataSize() {
+        return FileUtil.getTotalSize(getDatabaseFilePath(filePath));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the database could not be read or its data is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(getDatabaseFilePath(filePath))) {
+            return Optional.empty();
+        }
+
+        Map<UniqueId, Integer> personIndexes = new HashMap<>();
+        Map<UniqueId, Integer> taskIndexes = new HashMap<>();
+        Map<UniqueId, Integer> groupIndexes = new HashMap<>();
+        JsonSerializableAddressBook serializableAddressBook;
+        try (Connection connection = openConnection(filePath)) {
+            createTablesIfMissing(connection);
+            serializableAddressBook = selectAddressBook(connection, personIndexes, taskIndexes, groupIndexes);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = serializableAddressBook.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        personSnapshot = new TableSnapshot(addressBook.getPersonList(), personIndexes);
+        taskSnapshot = new TableSnapshot(addressBook.getTaskList(), taskIndexes);
+        groupSnapshot = new TableSnapshot(addressBook.getGroupList(), groupIndexes);
+        snapshotFilePath = filePath;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isSnapshotOfDatabase = filePath.equals(snapshotFilePath);
+        TableSnapshot newPersonSnapshot;
+        TableSnapshot newTaskSnapshot;
+        TableSnapshot newGroupSnapshot;
+
+        FileUtil.createParentDirsOfFile(getDatabaseFilePath(filePath));
+        try (Connection connection = openConnection(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                createTablesIfMissing(connection);
+                if (!isSnapshotOfDatabase) {
+                    deleteAllRows(connection);
+                }
+                newPersonSnapshot = savePersons(connection, addressBook.getPersonList(),
+                        isSnapshotOfDatabase ? personSnapshot : new TableSnapshot());
+                newTaskSnapshot = saveTasks(connection, addressBook.getTaskList(),
+                        isSnapshotOfDatabase ? taskSnapshot : new TableSnapshot());
+                newGroupSnapshot = saveGroups(connection, addressBook.getGroupList(),
+                        isSnapshotOfDatabase ? groupSnapshot : new TableSnapshot());
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error writing to database " + filePath, e);
+        }
+
+        personSnapshot = newPersonSnapshot;
+        taskSnapshot = newTaskSnapshot;
+        groupSnapshot = newGroupSnapshot;
+        snapshotFilePath = filePath;
+    }
+
+    /**
+     * Returns the path of the file in which the database at {@code filePath} is stored.
+     */
+    static Path getDatabaseFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DATABASE_FILE_SUFFIX);
+    }
+
+    private static Connection openConnection(Path filePath) throws SQLException {
+        return DriverManager.getConnection(JDBC_URL_PREFIX + filePath.toAbsolutePath());
+    }
+
+    private static void createTablesIfMissing(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String createTable : CREATE_TABLES) {
+                statement.execute(createTable);
+            }
+        }
+    }
+
+    private static void deleteAllRows(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : ALL_TABLES) {
+                statement.execute("DELETE FROM " + table);
+            }
+        }
+    }
+
+    //=========== Saving ================================================================================
+
+    private static TableSnapshot savePersons(Connection connection, List<Person> persons, TableSnapshot previous)
+            throws SQLException {
+        RowChanges<Person> changes = new RowChanges<>(persons, previous);
+        deleteRemovedAndStaleRows(connection, "persons", PERSON_DETAIL_TABLES, changes);
+
+        try (PreparedStatement upsertPerson = connection.prepareStatement(UPSERT_PERSON);
+             PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG);
+             PreparedStatement insertLesson = connection.prepareStatement(INSERT_LESSON);
+             PreparedStatement insertExam = connection.prepareStatement(INSERT_EXAM);
+             PreparedStatement insertAssignment = connection.prepareStatement(INSERT_ASSIGNMENT);
+             PreparedStatement insertTaskCompletion = connection.prepareStatement(INSERT_TASK_COMPLETION)) {
+            for (Person person : changes.getChangedItems()) {
+                String id = toIdString(person.getId());
+                upsertPerson.setString(1, id);
+                upsertPerson.setInt(2, changes.getListIndex(person));
+                upsertPerson.setString(3, person.getName().fullName);
+                upsertPerson.setString(4, person.getPhone().value);
+                upsertPerson.setString(5, person.getEmail().value);
+                upsertPerson.setString(6, person.getAddress().value);
+                upsertPerson.addBatch();
+
+                for (Tag tag : person.getTags()) {
+                    insertTag.setString(1, id);
+                    insertTag.setString(2, tag.tagName);
+                    insertTag.addBatch();
+                }
+                addLessonRows(insertLesson, id, person.getLessonsList().getLessons());
+                List<Exam> exams = person.getExams();
+                for (int i = 0; i < exams.size(); i++) {
+                    insertExam.setString(1, id);
+                    insertExam.setInt(2, i);
+                    insertExam.setString(3, exams.get(i).getSubject().getSubjectName());
+                    insertExam.setString(4, ParserUtil.localDateTimeAsString(exams.get(i).getDateTime()));
+                    insertExam.addBatch();
+                }
+                addAssignmentRows(insertAssignment, id, KIND_TASK, person.getAssignedTaskIds());
+                addAssignmentRows(insertAssignment, id, KIND_GROUP, person.getAssignedGroupIds());
+                for (Map.Entry<UniqueId, Boolean> completion : person.getTasksCompletion().entrySet()) {
+                    insertTaskCompletion.setString(1, id);
+                    insertTaskCompletion.setString(2, toIdString(completion.getKey()));
+                    insertTaskCompletion.setBoolean(3, completion.getValue());
+                    insertTaskCompletion.addBatch();
+                }
+            }
+            executeBatches(upsertPerson, insertTag, insertLesson, insertExam, insertAssignment, insertTaskCompletion);
+        }
+
+        updateMovedRows(connection, "persons", changes);
+        return changes.toSnapshot();
+    }
+
+    private static TableSnapshot saveTasks(Connection connection, List<Task> tasks, TableSnapshot previous)
+            throws SQLException {
+        RowChanges<Task> changes = new RowChanges<>(tasks, previous);
+        deleteRemovedAndStaleRows(connection, "tasks", NO_DETAIL_TABLES, changes);
+
+        try (PreparedStatement upsertTask = connection.prepareStatement(UPSERT_TASK)) {
+            for (Task task : changes.getChangedItems()) {
+                upsertTask.setString(1, toIdString(task.getId()));
+                upsertTask.setInt(2, changes.getListIndex(task));
+                upsertTask.setString(3, task.getDescription().description);
+                upsertTask.setString(4, task.getDeadline().deadline.toString());
+                upsertTask.addBatch();
+            }
+            executeBatches(upsertTask);
+        }
+
+        updateMovedRows(connection, "tasks", changes);
+        return changes.toSnapshot();
+    }
+
+    private static TableSnapshot saveGroups(Connection connection, List<Group> groups, TableSnapshot previous)
+            throws SQLException {
+        RowChanges<Group> changes = new RowChanges<>(groups, previous);
+        deleteRemovedAndStaleRows(connection, "student_groups", GROUP_DETAIL_TABLES, changes);
+
+        try (PreparedStatement upsertGroup = connection.prepareStatement(UPSERT_GROUP);
+             PreparedStatement insertLesson = connection.prepareStatement(INSERT_LESSON);
+             PreparedStatement insertAssignment = connection.prepareStatement(INSERT_ASSIGNMENT)) {
+            for (Group group : changes.getChangedItems()) {
+                String id = toIdString(group.getId());
+                upsertGroup.setString(1, id);
+                upsertGroup.setInt(2, changes.getListIndex(group));
+                upsertGroup.setString(3, group.getName().name);
+                upsertGroup.addBatch();
+
+                addLessonRows(insertLesson, id, group.getLessons());
+                addAssignmentRows(insertAssignment, id, KIND_PERSON, group.getAssignedPersonIds());
+                addAssignmentRows(insertAssignment, id, KIND_TASK, group.getAssignedTaskIds());
+            }
+            executeBatches(upsertGroup, insertLesson, insertAssignment);
+        }
+
+        updateMovedRows(connection, "student_groups", changes);
+        return changes.toSnapshot();
+    }
+
+    private static void addLessonRows(PreparedStatement insertLesson, String ownerId, List<Lesson> lessons)
+            throws SQLException {
+        for (int i = 0; i < lessons.size(); i++) {
+            Lesson lesson = lessons.get(i);
+            insertLesson.setString(1, ownerId);
+            insertLesson.setInt(2, i);
+            insertLesson.setString(3, lesson.getSubject().getSubjectName());
+            insertLesson.setInt(4, lesson.getDayOfWeek().getValue());
+            insertLesson.setString(5, lesson.getTimeslot().getStartTime().toString());
+            insertLesson.setString(6, lesson.getTimeslot().getEndTime().toString());
+            insertLesson.addBatch();
+        }
+    }
+
+    private static void addAssignmentRows(PreparedStatement insertAssignment, String ownerId, String kind,
+            Set<UniqueId> assignedIds) throws SQLException {
+        for (UniqueId assignedId : assignedIds) {
+            insertAssignment.setString(1, ownerId);
+            insertAssignment.setString(2, kind);
+            insertAssignment.setString(3, toIdString(assignedId));
+            insertAssignment.addBatch();
+        }
+    }
+
+    /**
+     * Deletes the rows of removed entities from {@code table}, and the rows of both removed and changed entities
+     * from the {@code detailTables}, which the rows of changed entities are reinserted into afterwards.
+     */
+    private static void deleteRemovedAndStaleRows(Connection connection, String table, String[] detailTables,
+            RowChanges<?> changes) throws SQLException {
+        try (PreparedStatement deleteRow = connection.prepareStatement("DELETE FROM " + table + " WHERE id = ?")) {
+            for (UniqueId id : changes.getRemovedIds()) {
+                deleteRow.setString(1, toIdString(id));
+                deleteRow.addBatch();
+            }
+            executeBatches(deleteRow);
+        }
+
+        for (String detailTable : detailTables) {
+            try (PreparedStatement deleteDetails = connection.prepareStatement(
+                    "DELETE FROM " + detailTable + " WHERE owner_id = ?")) {
+                for (UniqueId id : changes.getRemovedIds()) {
+                    deleteDetails.setString(1, toIdString(id));
+                    deleteDetails.addBatch();
+                }
+                for (HasUniqueId item : changes.getChangedItems()) {
+                    deleteDetails.setString(1, toIdString(item.getId()));
+                    deleteDetails.addBatch();
+                }
+                executeBatches(deleteDetails);
+            }
+        }
+    }
+
+    private static void updateMovedRows(Connection connection, String table, RowChanges<?> changes)
+            throws SQLException {
+        try (PreparedStatement updateListIndex = connection.prepareStatement(
+                "UPDATE " + table + " SET list_index = ? WHERE id = ?")) {
+            for (HasUniqueId item : changes.getMovedItems()) {
+                updateListIndex.setInt(1, changes.getListIndex(item));
+                updateListIndex.setString(2, toIdString(item.getId()));
+                updateListIndex.addBatch();
+            }
+            executeBatches(updateListIndex);
+        }
+    }
+
+    private static void executeBatches(PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+    }
+
+    //=========== Reading ===============================================================================
+
+    /**
+     * Reads every table of the database into a {@code JsonSerializableAddressBook}, so that the data goes through the
+     * same validation as data read from a json file. The list indexes of the persons, tasks and groups read are put
+     * into the given maps.
+     */
+    private static JsonSerializableAddressBook selectAddressBook(Connection connection,
+            Map<UniqueId, Integer> personIndexes, Map<UniqueId, Integer> taskIndexes,
+            Map<UniqueId, Integer> groupIndexes) throws SQLException {
+        Map<String, List<JsonAdaptedTag>> tags = new HashMap<>();
+        Map<String, List<JsonAdaptedLesson>> lessons = new HashMap<>();
+        Map<String, List<JsonAdaptedExam>> exams = new HashMap<>();
+        Map<String, List<JsonAdaptedUniqueId>> assignedPersonIds = new HashMap<>();
+        Map<String, List<JsonAdaptedUniqueId>> assignedTaskIds = new HashMap<>();
+        Map<String, List<JsonAdaptedUniqueId>> assignedGroupIds = new HashMap<>();
+        Map<String, List<JsonAdaptedTaskCompletion>> taskCompletions = new HashMap<>();
+
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery(SELECT_TAGS)) {
+                while (rows.next()) {
+                    addToList(tags, rows.getString("owner_id"), new JsonAdaptedTag(rows.getString("tag")));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery(SELECT_LESSONS)) {
+                while (rows.next()) {
+                    JsonAdaptedTimeslot timeslot = new JsonAdaptedTimeslot(rows.getString("start_time"),
+                            rows.getString("end_time"));
+                    addToList(lessons, rows.getString("owner_id"),
+                            new JsonAdaptedLesson(timeslot, rows.getString("subject"), rows.getInt("day_of_week")));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery(SELECT_EXAMS)) {
+                while (rows.next()) {
+                    addToList(exams, rows.getString("owner_id"),
+                            new JsonAdaptedExam(rows.getString("subject"), rows.getString("date_time")));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery(SELECT_ASSIGNMENTS)) {
+                while (rows.next()) {
+                    String kind = rows.getString("kind");
+                    Map<String, List<JsonAdaptedUniqueId>> assignedIds = KIND_PERSON.equals(kind)
+                            ? assignedPersonIds
+                            : KIND_TASK.equals(kind) ? assignedTaskIds : assignedGroupIds;
+                    addToList(assignedIds, rows.getString("owner_id"),
+                            new JsonAdaptedUniqueId(rows.getString("assigned_id")));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery(SELECT_TASK_COMPLETIONS)) {
+                while (rows.next()) {
+                    addToList(taskCompletions, rows.getString("owner_id"),
+                            new JsonAdaptedTaskCompletion(rows.getString("task_id"), rows.getBoolean("is_done")));
+                }
+            }
+
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(SELECT_PERSONS)) {
+                while (rows.next()) {
+                    String id = rows.getString("id");
+                    personIndexes.put(UniqueId.generateId(id), rows.getInt("list_index"));
+                    persons.add(new JsonAdaptedPerson(id, rows.getString("name"), rows.getString("phone"),
+                            rows.getString("email"), rows.getString("address"), getList(tags, id),
+                            getList(assignedTaskIds, id), getList(assignedGroupIds, id),
+                            getList(taskCompletions, id), getList(lessons, id), getList(exams, id)));
+                }
+            }
+            List<JsonAdaptedTask> tasks = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(SELECT_TASKS)) {
+                while (rows.next()) {
+                    String id = rows.getString("id");
+                    taskIndexes.put(UniqueId.generateId(id), rows.getInt("list_index"));
+                    tasks.add(new JsonAdaptedTask(rows.getString("description"), rows.getString("deadline"), id));
+                }
+            }
+            List<JsonAdaptedGroup> groups = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(SELECT_GROUPS)) {
+                while (rows.next()) {
+                    String id = rows.getString("id");
+                    groupIndexes.put(UniqueId.generateId(id), rows.getInt("list_index"));
+                    groups.add(new JsonAdaptedGroup(id, rows.getString("name"), getList(assignedPersonIds, id),
+                            getList(assignedTaskIds, id), getList(lessons, id)));
+                }
+            }
+            return new JsonSerializableAddressBook(persons, tasks, groups);
+        }
+    }
+
+    private static <T> void addToList(Map<String, List<T>> lists, String key, T value) {
+        lists.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+    }
+
+    private static <T> List<T> getList(Map<String, List<T>> lists, String key) {
+        return lists.getOrDefault(key, Collections.emptyList());
+    }
+
+    private static String toIdString(UniqueId id) {
+        return id.getUuid().toString();
+    }
+
+    //=========== Change tracking =======================================================================
+
+    /**
+     * The entities of one table as of the last save or read, with the list indexes stored for them.
+     */
+    private static class TableSnapshot {
+        private final Map<UniqueId, HasUniqueId> items;
+        private final Map<UniqueId, Integer> listIndexes;
+
+        TableSnapshot() {
+            this(Collections.emptyList(), Collections.emptyMap());
+        }
+
+        TableSnapshot(List<? extends HasUniqueId> items, Map<UniqueId, Integer> listIndexes) {
+            this.items = new HashMap<>();
+            for (HasUniqueId item : items) {
+                this.items.put(item.getId(), item);
+            }
+            this.listIndexes = listIndexes;
+        }
+    }
+
+    /**
+     * The rows of one table that a save has to write, found by comparing the entities to be saved with a snapshot.
+     * <p>
+     * Rows are ordered by a list index. An entity keeps the index stored for it for as long as the indexes still
+     * increase down the list, so that removing an entity or replacing one in place does not renumber the others.
+     */
+    private static class RowChanges<T extends HasUniqueId> {
+        private final List<T> changedItems = new ArrayList<>();
+        private final List<T> movedItems = new ArrayList<>();
+        private final List<UniqueId> removedIds = new ArrayList<>();
+        private final Map<UniqueId, HasUniqueId> currentItems = new LinkedHashMap<>();
+        private final Map<UniqueId, Integer> listIndexes = new HashMap<>();
+
+        RowChanges(List<T> items, TableSnapshot previous) {
+            int lastListIndex = -1;
+            for (T item : items) {
+                UniqueId id = item.getId();
+                Integer storedListIndex = previous.listIndexes.get(id);
+                int listIndex = storedListIndex != null && storedListIndex > lastListIndex
+                        ? storedListIndex
+                        : lastListIndex + 1;
+
+                if (previous.items.get(id) != item) {
+                    changedItems.add(item);
+                } else if (listIndex != storedListIndex) {
+                    movedItems.add(item);
+                }
+                currentItems.put(id, item);
+                listIndexes.put(id, listIndex);
+                lastListIndex = listIndex;
+            }
+
+            for (UniqueId id : previous.items.keySet()) {
+                if (!currentItems.containsKey(id)) {
+                    removedIds.add(id);
+                }
+            }
+            logger.fine(String.format("%d changed, %d moved and %d removed of %d rows",
+                    changedItems.size(), movedItems.size(), removedIds.size(), items.size()));
+        }
+
+        List<T> getChangedItems() {
+            return changedItems;
+        }
+
+        List<T> getMovedItems() {
+            return movedItems;
+        }
+
+        List<UniqueId> getRemovedIds() {
+            return removedIds;
+        }
+
+        int getListIndex(HasUniqueId item) {
+            return listIndexes.get(item.getId());
+        }
+
+        TableSnapshot toSnapshot() {
+            return new TableSnapshot(new ArrayList<>(currentItems.values()), listIndexes);
+        }
+    }
+
+}
@@ -1,12 +1,13 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -18,9 +19,15 @@ public class CommandBox extends UiPart<Region> {
 
     private final CommandExecutor commandExecutor;
 
+    /** The number of commands entered here that have not finished yet. */
+    private int pendingCommandCount;
+
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -33,6 +40,8 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command is queued behind any that are still running, and the box is cleared for the next one at once.
+     * If the command fails, it is put back in the box, unless something else has been typed there since.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,12 +50,21 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandTextField.setText("");
+        setPendingCommandCount(pendingCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setPendingCommandCount(pendingCommandCount - 1);
+            if (error != null && commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                commandTextField.end();
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    private void setPendingCommandCount(int pendingCommandCount) {
+        this.pendingCommandCount = pendingCommandCount;
+        busyIndicator.setVisible(pendingCommandCount > 0);
     }
 
     /**
@@ -75,11 +93,13 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command after any that are still running, and returns its result, which is completed on the
+         * JavaFX application thread. A command that fails completes it with the {@code CommandException} or
+         * {@code ParseException} thrown.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
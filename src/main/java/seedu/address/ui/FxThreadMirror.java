@@ -0,0 +1,77 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.BatchableObservableList;
+import seedu.address.model.util.ListSplice;
+
+/**
+ * Makes copies of the model's lists and values that only change on the JavaFX application thread.
+ * <p>
+ * The window runs commands on a thread of their own, so the model changes on that thread, but the controls that
+ * show it may only be changed on the JavaFX application thread. A copy made here listens to the model on the
+ * command thread and repeats each change on the JavaFX application thread with {@code Platform.runLater}, in the
+ * order the changes were made.
+ */
+final class FxThreadMirror {
+
+    private FxThreadMirror() {}
+
+    /**
+     * Returns a list that follows {@code source}, which must only be changed by tasks run on {@code commandThread}.
+     * The list is empty until {@code commandThread} has copied {@code source}.
+     */
+    static <E> ObservableList<E> ofList(ObservableList<E> source, Executor commandThread) {
+        BatchableObservableList<E> mirror = new BatchableObservableList<>();
+        commandThread.execute(() -> {
+            List<E> contents = new ArrayList<>(source);
+            source.addListener((ListChangeListener<E>) change -> {
+                List<ListSplice<E>> splices = ListSplice.of(change);
+                Platform.runLater(() -> apply(mirror, splices));
+            });
+            Platform.runLater(() -> mirror.setAll(contents));
+        });
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Returns a value that follows {@code source}, which must only be changed by tasks run on {@code commandThread}.
+     * The value is null until {@code commandThread} has read {@code source}.
+     */
+    static <T> ObservableValue<T> ofValue(ObservableValue<T> source, Executor commandThread) {
+        ObjectProperty<T> mirror = new SimpleObjectProperty<>();
+        commandThread.execute(() -> {
+            T value = source.getValue();
+            source.addListener((observable, oldValue, newValue) -> Platform.runLater(() -> mirror.set(newValue)));
+            Platform.runLater(() -> mirror.set(value));
+        });
+        return mirror;
+    }
+
+    /**
+     * Makes the changes in {@code splices} to {@code mirror}, telling its listeners of them all at once.
+     */
+    private static <E> void apply(BatchableObservableList<E> mirror, List<ListSplice<E>> splices) {
+        mirror.beginBatch();
+        try {
+            for (ListSplice<E> splice : splices) {
+                int from = splice.getFrom();
+                if (!splice.getRemoved().isEmpty()) {
+                    mirror.remove(from, from + splice.getRemoved().size());
+                }
+                mirror.addAll(from, splice.getAdded());
+            }
+        } finally {
+            mirror.endBatch();
+        }
+    }
+}
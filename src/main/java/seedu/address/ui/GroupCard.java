@@ -21,7 +21,7 @@ public class GroupCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Group group;
+    private Group group;
 
     @FXML
     private HBox cardPane;
@@ -34,12 +34,30 @@ public class GroupCard extends UiPart<Region> {
      * Creates a {@code GroupCode} with the given {@code Group} and index to display.
      */
     public GroupCard(Group group, int displayedIndex) {
+        this();
+        setGroup(group, displayedIndex);
+    }
+
+    /**
+     * Creates an empty {@code GroupCard}, to be filled in with {@link #setGroup}.
+     */
+    public GroupCard() {
         super(FXML);
+    }
+
+    /**
+     * Shows {@code group} and its index in this card, in place of whichever group was shown before.
+     */
+    public void setGroup(Group group, int displayedIndex) {
         this.group = group;
         id.setText(displayedIndex + ". ");
         name.setText(group.getName().name);
     }
 
+    public Group getGroup() {
+        return group;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -33,6 +33,9 @@ public class GroupListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Group} using a {@code GroupCard}.
      */
     class GroupListViewCell extends ListCell<Group> {
+        /** Reused for each group this cell shows, so its FXML is only loaded once. */
+        private GroupCard groupCard;
+
         @Override
         protected void updateItem(Group group, boolean empty) {
             super.updateItem(group, empty);
@@ -41,7 +44,11 @@ public class GroupListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new GroupCard(group, getIndex() + 1).getRoot());
+                if (groupCard == null) {
+                    groupCard = new GroupCard();
+                }
+                groupCard.setGroup(group, getIndex() + 1);
+                setGraphic(groupCard.getRoot());
             }
         }
     }
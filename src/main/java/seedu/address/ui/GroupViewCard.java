@@ -1,19 +1,19 @@
 package seedu.address.ui;
 
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupWithDetails;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
 
@@ -37,17 +37,17 @@ public class GroupViewCard extends UiPart<Region> {
     @FXML
     private Label name;
     @FXML
-    private VBox persons;
+    private ListView<Person> persons;
     @FXML
     private Label personsLabel;
     @FXML
     private Label lessonsLabel;
     @FXML
-    private VBox lessons;
+    private ListView<Lesson> lessons;
     @FXML
     private Label tasksLabel;
     @FXML
-    private VBox tasks;
+    private ListView<Task> tasks;
 
 
     /**
@@ -55,6 +55,9 @@ public class GroupViewCard extends UiPart<Region> {
      */
     public GroupViewCard(ObservableValue<GroupWithDetails> groupWithDetailsObservable) {
         super(FXML);
+        UiUtil.setUpIndexedList(persons, person -> person.getName().fullName, Optional.of("No students yet!"));
+        UiUtil.setUpIndexedList(lessons, Lesson::toString, Optional.of("No lessons yet!"));
+        UiUtil.setUpIndexedList(tasks, Task::toString, Optional.of("No tasks yet!"));
         ChangeListener<? super GroupWithDetails> changeListener = new ChangeListener<GroupWithDetails>() {
             @Override
             public void changed(ObservableValue<? extends GroupWithDetails> observable,
@@ -81,30 +84,13 @@ public class GroupViewCard extends UiPart<Region> {
      * @param groupWithDetails to update
      */
     private void updateGroupDetails(GroupWithDetails groupWithDetails) {
-
-        // to list all persons inside group
         Group group = groupWithDetails.getGroup();
         name.setText(group.getName().name);
-        Set<Person> personslist = groupWithDetails.getPersons();
-
-        List<Person> personList = new ArrayList<>();
-        personList.addAll(personslist);
-
-
-        // add group persons
-        UiUtil.addIndexedLabels(persons, personList.stream().map((persons) ->
-                persons.getName().fullName).collect(Collectors.toList()), Optional.of("No students yet!"));
-
-        // add group lessons
-        UiUtil.addIndexedLabels(lessons, group.getLessons().stream().map((lessons) ->
-                lessons.toString()).collect(Collectors.toList()), Optional.of("No lessons yet!"));
-
-
-        // add group tasks
-        Set<Task> groupTasks = groupWithDetails.getTasks();
-        UiUtil.addIndexedLabels(tasks, groupTasks.stream().map(task ->
-                task.toString()).collect(Collectors.toList()), Optional.of("No tasks yet!"));
 
+        // only the rows that differ from the group shown before are replaced
+        CollectionUtil.replaceChanged(persons.getItems(), new ArrayList<>(groupWithDetails.getPersons()));
+        CollectionUtil.replaceChanged(lessons.getItems(), group.getLessons());
+        CollectionUtil.replaceChanged(tasks.getItems(), new ArrayList<>(groupWithDetails.getTasks()));
     }
 
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.stream.Collectors;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -22,7 +24,7 @@ public class LessonScheduleCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final LessonWithAttendees lessonWithAttendees;
+    private LessonWithAttendees lessonWithAttendees;
 
     @FXML
     private HBox cardPane;
@@ -35,12 +37,31 @@ public class LessonScheduleCard extends UiPart<Region> {
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public LessonScheduleCard(LessonWithAttendees lessonWithAttendees) {
+        this();
+        setLessonWithAttendees(lessonWithAttendees);
+    }
+
+    /**
+     * Creates an empty {@code LessonScheduleCard}, to be filled in with {@link #setLessonWithAttendees}.
+     */
+    public LessonScheduleCard() {
         super(FXML);
+        details.setWrapText(true);
+    }
+
+    /**
+     * Shows {@code lessonWithAttendees} in this card, in place of whichever lesson was shown before.
+     */
+    public void setLessonWithAttendees(LessonWithAttendees lessonWithAttendees) {
         this.lessonWithAttendees = lessonWithAttendees;
         details.setText(lessonWithAttendees.getLesson().toString());
-        lessonWithAttendees.getAttendeeList().stream()
-                .forEach(attendee -> attendees.getChildren().add(new Label(attendee.getAttendeeDetails())));
-        details.setWrapText(true);
+        UiUtil.setLabels(attendees, lessonWithAttendees.getAttendeeList().stream()
+                .map(attendee -> attendee.getAttendeeDetails())
+                .collect(Collectors.toList()));
+    }
+
+    public LessonWithAttendees getLessonWithAttendees() {
+        return lessonWithAttendees;
     }
 
     @Override
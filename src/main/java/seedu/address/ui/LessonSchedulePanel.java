@@ -35,6 +35,9 @@ public class LessonSchedulePanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
     class LessonListCellView extends ListCell<LessonWithAttendees> {
+        /** The card this cell shows, created the first time it shows a lesson. */
+        private LessonScheduleCard lessonScheduleCard;
+
         @Override
         protected void updateItem(LessonWithAttendees lessonWithAttendees, boolean empty) {
             super.updateItem(lessonWithAttendees, empty);
@@ -43,7 +46,11 @@ public class LessonSchedulePanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new LessonScheduleCard(lessonWithAttendees).getRoot());
+                if (lessonScheduleCard == null) {
+                    lessonScheduleCard = new LessonScheduleCard();
+                }
+                lessonScheduleCard.setLessonWithAttendees(lessonWithAttendees);
+                setGraphic(lessonScheduleCard.getRoot());
             }
         }
     }
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -29,6 +32,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private Executor commandExecutor;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -63,19 +67,23 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which runs commands one at a time
+     * with {@code commandExecutor}, so that the window can be redrawn while they run.
+     * All changes to the model must be made with {@code commandExecutor}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Executor commandExecutor) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
+        PulseTimer.attach(primaryStage.getScene());
 
         helpWindow = new HelpWindow();
     }
@@ -122,20 +130,23 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        // the model changes on the command thread, so the panels show copies that change on the JavaFX thread
+        personListPanel = new PersonListPanel(FxThreadMirror.ofList(logic.getFilteredPersonList(), commandExecutor));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        taskListPanel = new TaskListPanel(logic.getFilteredTaskList());
+        taskListPanel = new TaskListPanel(FxThreadMirror.ofList(logic.getFilteredTaskList(), commandExecutor));
         taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
 
-        groupListPanel = new GroupListPanel(logic.getFilteredGroupList());
+        groupListPanel = new GroupListPanel(FxThreadMirror.ofList(logic.getFilteredGroupList(), commandExecutor));
         groupListPanelPlaceholder.getChildren().add(groupListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        viewingPanel = new ViewingPanel(logic.getViewingType(), logic.getViewingPersonWithDetails(),
-                logic.getSortedLessonsWithAttendees(), logic.getViewingGroupWithDetails());
+        viewingPanel = new ViewingPanel(FxThreadMirror.ofValue(logic.getViewingType(), commandExecutor),
+                FxThreadMirror.ofValue(logic.getViewingPersonWithDetails(), commandExecutor),
+                FxThreadMirror.ofList(logic.getSortedLessonsWithAttendees(), commandExecutor),
+                FxThreadMirror.ofValue(logic.getViewingGroupWithDetails(), commandExecutor));
         viewingPanelPlaceholder.getChildren().add(viewingPanel.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
@@ -180,7 +191,7 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        commandExecutor.execute(() -> logic.setGuiSettings(guiSettings));
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -198,28 +209,50 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command with the command executor, after any commands that are still running, and returns the
+     * result, which is shown and completed on the JavaFX application thread.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                Platform.runLater(() -> {
+                    try {
+                        showCommandResult(commandResult);
+                    } finally {
+                        result.complete(commandResult);
+                    }
+                });
+            } catch (CommandException | ParseException e) {
+                Platform.runLater(() -> {
+                    logger.info(() -> "Invalid command: " + commandText);
+                    resultDisplay.setFeedbackToUser(e.getMessage());
+                    result.completeExceptionally(e);
+                });
+            } catch (RuntimeException | Error e) {
+                // rethrown on the JavaFX thread, where it would have been thrown before commands were queued, after
+                // completing the result so that the command box does not wait for it forever
+                Platform.runLater(() -> {
+                    result.completeExceptionally(e);
+                    throw e;
+                });
             }
+        });
+        return result;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void showCommandResult(CommandResult commandResult) {
+        logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
@@ -2,9 +2,9 @@ package seedu.address.ui;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -14,10 +14,15 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupWithDetails;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Exam;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonWithDetails;
 import seedu.address.model.task.Task;
@@ -50,27 +55,40 @@ public class PersonViewCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
     @FXML
-    private VBox lessons;
+    private ListView<Lesson> lessons;
     @FXML
     private Label groupLessonsLabel;
     @FXML
-    private VBox groupLessons;
+    private ListView<GroupDetail> groupLessons;
     @FXML
-    private VBox tasks;
+    private ListView<Task> tasks;
     @FXML
     private Label groupTasksLabel;
     @FXML
-    private VBox groupTasks;
+    private ListView<GroupDetail> groupTasks;
     @FXML
-    private VBox exams;
+    private ListView<Exam> exams;
     @FXML
-    private VBox groups;
+    private ListView<Group> groups;
+
+    /** Whether the shown person has done each of their tasks, read when the rows of {@code tasks} are made. */
+    private Map<Task, Boolean> tasksCompletion = Map.of();
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonViewCard(ObservableValue<PersonWithDetails> personWithDetailsObservable) {
         super(FXML);
+        UiUtil.setUpIndexedList(lessons, Lesson::toString, Optional.of("No lessons yet!"));
+        UiUtil.setUpIndexedList(tasks, task -> {
+            Boolean isDone = tasksCompletion.get(task);
+            assert isDone != null;
+            return task.toCompletionString(isDone);
+        }, Optional.of("No tasks yet!"));
+        UiUtil.setUpIndexedList(exams, Exam::toString, Optional.of("No exams yet!"));
+        UiUtil.setUpIndexedList(groupLessons, GroupDetail::toString, Optional.empty());
+        UiUtil.setUpIndexedList(groupTasks, GroupDetail::toString, Optional.empty());
+        UiUtil.setUpIndexedList(groups, group -> group.getName().toString(), Optional.of("No groups yet!"));
         ChangeListener<? super PersonWithDetails> changeListener = new ChangeListener<PersonWithDetails>() {
             @Override
             public void changed(ObservableValue<? extends PersonWithDetails> observable,
@@ -100,32 +118,27 @@ public class PersonViewCard extends UiPart<Region> {
      */
     private void updatePersonDetails(PersonWithDetails personWithDetails) {
         Person person = personWithDetails.getPerson();
-        Set<Task> personTasks = personWithDetails.getTasks();
-        Map<Task, Boolean> personTasksCompletion = personWithDetails.getTasksCompletion();
 
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        tags.getChildren().clear();
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-
-        // add person lessons
-        UiUtil.addIndexedLabels(lessons, person.getLessons().stream().map((lessons) ->
-                lessons.toString()).collect(Collectors.toList()), Optional.of("No lessons yet!"));
-
-        // add person tasks
-        UiUtil.addIndexedLabels(tasks, personTasks.stream().map(task -> {
-            Boolean isDone = personTasksCompletion.get(task);
-            assert !isDone.equals(null);
-            return task.toCompletionString(isDone);
-        }).collect(Collectors.toList()), Optional.of("No tasks yet!"));
+        UiUtil.setLabels(tags, person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+
+        CollectionUtil.replaceChanged(lessons.getItems(), person.getLessons());
+
+        // a task that is marked done is still the same task, so its row is redrawn rather than replaced
+        Map<Task, Boolean> oldTasksCompletion = tasksCompletion;
+        tasksCompletion = personWithDetails.getTasksCompletion();
+        CollectionUtil.replaceChanged(tasks.getItems(), new ArrayList<>(personWithDetails.getTasks()));
+        if (!Objects.equals(oldTasksCompletion, tasksCompletion)) {
+            tasks.refresh();
+        }
 
-        // add person exams
-        UiUtil.addIndexedLabels(exams, person.getExams().stream().map(exam ->
-                exam.toString()).collect(Collectors.toList()), Optional.of("No exams yet!"));
+        CollectionUtil.replaceChanged(exams.getItems(), person.getExams());
     }
 
     /**
@@ -134,10 +147,10 @@ public class PersonViewCard extends UiPart<Region> {
      */
     private void updateGroupRelatedItems(Set<GroupWithDetails> personGroups) {
         // create a list to hold the lesson details in groups that person belongs to
-        List<String> groupLessonsList = getDetailsWithGroupName(personGroups, groupWithDetails ->
+        List<GroupDetail> groupLessonsList = getDetailsWithGroupName(personGroups, groupWithDetails ->
                 groupWithDetails.getGroup().getLessons());
         // create a list to hold the task details in groups that person belongs to
-        List<String> groupTasksList = getDetailsWithGroupName(personGroups, groupWithDetails ->
+        List<GroupDetail> groupTasksList = getDetailsWithGroupName(personGroups, groupWithDetails ->
                 groupWithDetails.getTasks());
 
         // remove the group lessons and tasks labels if is empty
@@ -146,26 +159,53 @@ public class PersonViewCard extends UiPart<Region> {
         groupTasksLabel.setVisible(!groupTasksList.isEmpty());
         groupTasksLabel.setManaged(!groupTasksList.isEmpty());
 
-        // add group lessons, no empty message
-        UiUtil.addIndexedLabels(groupLessons, groupLessonsList, Optional.empty());
-
-        // add group tasks, no empty message
-        UiUtil.addIndexedLabels(groupTasks, groupTasksList, Optional.empty());
-
-        // add person group names
-        UiUtil.addIndexedLabels(groups, personGroups.stream().map(group ->
-                group.getGroup().getName().toString()).collect(Collectors.toList()), Optional.of("No groups yet!"));
+        CollectionUtil.replaceChanged(groupLessons.getItems(), groupLessonsList);
+        CollectionUtil.replaceChanged(groupTasks.getItems(), groupTasksList);
+        CollectionUtil.replaceChanged(groups.getItems(), personGroups.stream()
+                .map(GroupWithDetails::getGroup)
+                .collect(Collectors.toList()));
     }
 
-    private List<String> getDetailsWithGroupName(Set<GroupWithDetails> groups,
+    private List<GroupDetail> getDetailsWithGroupName(Set<GroupWithDetails> groups,
             Function<GroupWithDetails, Collection<? extends Object>> function) {
-        List<String> list = new ArrayList<>();
+        List<GroupDetail> list = new ArrayList<>();
         for (GroupWithDetails groupWithDetails : groups) {
             String groupName = groupWithDetails.getGroup().getNameInString();
             for (Object obj : function.apply(groupWithDetails)) {
-                list.add(String.format("%s with group %s", obj, groupName));
+                list.add(new GroupDetail(obj, groupName));
             }
         }
         return list;
     }
+
+    /**
+     * A lesson or task of a group that the person is in, with the name of the group.
+     */
+    private static class GroupDetail {
+        private final Object detail;
+        private final String groupName;
+
+        GroupDetail(Object detail, String groupName) {
+            this.detail = detail;
+            this.groupName = groupName;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s with group %s", detail, groupName);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof GroupDetail
+                    && detail.equals(((GroupDetail) other).detail)
+                    && groupName.equals(((GroupDetail) other).groupName));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(detail, groupName);
+        }
+    }
 }
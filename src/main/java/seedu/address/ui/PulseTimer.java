@@ -0,0 +1,30 @@
+package seedu.address.ui;
+
+import javafx.scene.Scene;
+import seedu.address.commons.core.LatencyStats;
+import seedu.address.commons.core.LatencyStats.Phase;
+
+/**
+ * Times the CSS and layout work that JavaFX does for a scene on each pulse before it is drawn, which includes
+ * updating the cells of list views as they are scrolled. The times are kept in {@code LatencyStats} under
+ * {@value #STATS_NAME}, so slow frames show up in the {@code stats} command.
+ */
+class PulseTimer {
+
+    static final String STATS_NAME = "(ui pulses)";
+
+    private long pulseStartTime;
+
+    private PulseTimer() {}
+
+    /**
+     * Starts timing the pulses of {@code scene}.
+     * The listeners only run on pulses that JavaFX would make anyway, so an idle window is not made to redraw.
+     */
+    static void attach(Scene scene) {
+        PulseTimer timer = new PulseTimer();
+        scene.addPreLayoutPulseListener(() -> timer.pulseStartTime = System.nanoTime());
+        scene.addPostLayoutPulseListener(() ->
+                LatencyStats.record(STATS_NAME, Phase.LAYOUT, System.nanoTime() - timer.pulseStartTime));
+    }
+}
@@ -21,7 +21,7 @@ public class TaskCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Task task;
+    private Task task;
 
     @FXML
     private HBox cardPane;
@@ -36,13 +36,31 @@ public class TaskCard extends UiPart<Region> {
      * Creates a {@code TaskCode} with the given {@code Task} and index to display.
      */
     public TaskCard(Task task, int displayedIndex) {
+        this();
+        setTask(task, displayedIndex);
+    }
+
+    /**
+     * Creates an empty {@code TaskCard}, to be filled in with {@link #setTask}.
+     */
+    public TaskCard() {
         super(FXML);
+    }
+
+    /**
+     * Shows {@code task} and its index in this card, in place of whichever task was shown before.
+     */
+    public void setTask(Task task, int displayedIndex) {
         this.task = task;
         id.setText(displayedIndex + ". ");
         name.setText(task.getDescription().description);
         deadline.setText(task.getDeadline().toString());
     }
 
+    public Task getTask() {
+        return task;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
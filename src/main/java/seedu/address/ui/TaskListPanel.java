@@ -33,6 +33,9 @@ public class TaskListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
      */
     class TaskListViewCell extends ListCell<Task> {
+        /** Created on first use; later updates only rebind it. */
+        private TaskCard taskCard;
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -41,7 +44,11 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                if (taskCard == null) {
+                    taskCard = new TaskCard();
+                }
+                taskCard.setTask(task, getIndex() + 1);
+                setGraphic(taskCard.getRoot());
             }
         }
     }
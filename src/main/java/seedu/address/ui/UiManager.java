@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -23,14 +24,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private Executor commandExecutor;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose commands are run with {@code commandExecutor}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, Executor commandExecutor) {
         super();
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
     }
 
     @Override
@@ -41,7 +44,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandExecutor);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -1,53 +1,92 @@
 package seedu.address.ui;
 
-import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.layout.VBox;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Pane;
 
 /**
  * Util class for UI functions
  */
 public class UiUtil {
+
+    private static final String INDEXED_LIST_STYLE_CLASS = "indexed-list";
+
+    /** Height of a row in the lists set up by {@link #setUpIndexedList}. */
+    private static final double INDEXED_ROW_HEIGHT = 22;
+    /** Lists set up by {@link #setUpIndexedList} grow to this many rows, and scroll when there are more. */
+    private static final int MAX_INDEXED_ROWS = 12;
+
     /**
-     * Updates the given VBox with multiple labels
-     * Optional default message to use if the collection is empty.
-     * @param toUpdate Vbox to update.
-     * @param stringCollections collection of Strings to use in the label details.
-     * @param defaultMessage optional default message if the list is empty.
+     * Sets up {@code listView} to show its items as numbered lines of text made by {@code toText}.
+     * Only the rows in sight are made, so a list of thousands of items costs no more to show than one of ten.
+     * The list is as tall as its items, up to {@value #MAX_INDEXED_ROWS} rows. When it has no items, it shows
+     * {@code emptyMessage}, or is hidden if there is none.
      */
-    public static <T> void addIndexedLabels(VBox toUpdate, Collection<String> stringCollections,
-            Optional<String> defaultMessage) {
-        toUpdate.getChildren().clear();
-
-        // if is empty, give a default message if present.
-        if (stringCollections.isEmpty()) {
-            defaultMessage.ifPresent((msg) -> {
-                Label emptyLabel = new Label(msg);
-                emptyLabel.setMinWidth(Label.USE_PREF_SIZE);
-                toUpdate.getChildren().add(emptyLabel);
-            });
-            return;
+    public static <T> void setUpIndexedList(ListView<T> listView, Function<? super T, String> toText,
+            Optional<String> emptyMessage) {
+        listView.getStyleClass().add(INDEXED_LIST_STYLE_CLASS);
+        listView.setFixedCellSize(INDEXED_ROW_HEIGHT);
+        listView.setFocusTraversable(false);
+        listView.setCellFactory(unused -> new IndexedListCell<>(toText));
+        emptyMessage.ifPresent(message -> listView.setPlaceholder(new Label(message)));
+        listView.getItems().addListener((InvalidationListener) unused ->
+                fitToItems(listView, emptyMessage.isPresent()));
+        fitToItems(listView, emptyMessage.isPresent());
+    }
+
+    private static void fitToItems(ListView<?> listView, boolean hasEmptyMessage) {
+        int rowCount = Math.min(listView.getItems().size(), MAX_INDEXED_ROWS);
+        boolean isShown = rowCount > 0 || hasEmptyMessage;
+        listView.setVisible(isShown);
+        listView.setManaged(isShown);
+
+        double height = Math.max(rowCount, 1) * INDEXED_ROW_HEIGHT;
+        listView.setMinHeight(height);
+        listView.setPrefHeight(height);
+        listView.setMaxHeight(height);
+    }
+
+    /**
+     * Shows each of {@code texts} in a label in {@code toUpdate}, which must only hold labels.
+     * The labels already in {@code toUpdate} are reused, so that a card showing a new item in a list cell only
+     * creates labels when the new item has more of them than the last.
+     */
+    public static void setLabels(Pane toUpdate, List<String> texts) {
+        ObservableList<Node> labels = toUpdate.getChildren();
+        if (labels.size() > texts.size()) {
+            labels.remove(texts.size(), labels.size());
         }
-        // otherwise add all of the objects
-        int index = 1;
-        for (String str: stringCollections) {
-            toUpdate.getChildren().add(createLabelWithIndex(index, str));
-            index++;
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < labels.size()) {
+                ((Label) labels.get(i)).setText(texts.get(i));
+            } else {
+                labels.add(new Label(texts.get(i)));
+            }
         }
     }
 
     /**
-     * Creates a label with the the given index and string
-     * @param index of label
-     * @param str to appear after the label
-     * @return Label with index and string
+     * A row of a list set up by {@link #setUpIndexedList}, showing its item after the item's number.
      */
-    public static Label createLabelWithIndex(int index, String str) {
-        Label toAdd = new Label(String.format("%d. %s", index, str));
-        toAdd.setMinWidth(Label.USE_PREF_SIZE);
-        return toAdd;
-    }
+    private static class IndexedListCell<T> extends ListCell<T> {
+        private final Function<? super T, String> toText;
 
+        IndexedListCell(Function<? super T, String> toText) {
+            this.toText = toText;
+        }
+
+        @Override
+        protected void updateItem(T item, boolean empty) {
+            super.updateItem(item, empty);
+            setText(empty || item == null ? null : (getIndex() + 1) + ". " + toText.apply(item));
+        }
+    }
 }
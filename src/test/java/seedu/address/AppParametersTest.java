@@ -37,6 +37,15 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_commandLineArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(List.of("commands.txt", "--config=config.json", "--other")));
+
+        // no config parameter
+        assertEquals(new AppParameters(), AppParameters.parse(List.of("commands.txt", "--config")));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,80 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessMain headlessMain;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        headlessMain = new HeadlessMain(new LogicManager(new ModelManager(), storage)::execute,
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_validCommands_printsFeedback() throws Exception {
+        assertTrue(run("list\n\n   \n# a comment\nhelp\n"));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + HelpCommand.HELP_MESSAGE + "\n", getOutput(out));
+        assertEquals("", getOutput(err));
+    }
+
+    @Test
+    public void run_invalidCommand_printsErrorAndContinues() throws Exception {
+        assertFalse(run("bogus\nlist\n"));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n", getOutput(out));
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + "\n", getOutput(err));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        assertTrue(run("exit\nbogus\n"));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + "\n", getOutput(out));
+        assertEquals("", getOutput(err));
+    }
+
+    @Test
+    public void run_showPrompt_promptBeforeEachCommand() throws Exception {
+        headlessMain.run(new BufferedReader(new StringReader("list\n")), true);
+        assertEquals(HeadlessMain.PROMPT + ListCommand.MESSAGE_SUCCESS + "\n" + HeadlessMain.PROMPT, getOutput(out));
+    }
+
+    private boolean run(String commands) throws Exception {
+        return headlessMain.run(new BufferedReader(new StringReader(commands)), false);
+    }
+
+    private static String getOutput(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(List.of(), 0));
+    }
+
+    @Test
+    public void publish_recordsPassedOnInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 4);
+
+        // warnings are never dropped, so the small buffer fills up and has to wait for the writer
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.WARNING, "message " + i));
+        }
+        handler.flush();
+
+        List<String> expectedMessages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expectedMessages.add("message " + i);
+        }
+        assertEquals(expectedMessages, target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_callerWorkedOutOnLoggingThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 4);
+
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+
+        logger.info("message");
+        handler.flush();
+
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.records.get(0).getSourceClassName());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFull_dropsRecordsBelowWarning() throws Exception {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage().equals("blocking")) {
+                    writerBlocked.countDown();
+                    try {
+                        releaseWriter.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2);
+
+        handler.publish(new LogRecord(Level.INFO, "blocking"));
+        writerBlocked.await();
+        handler.publish(new LogRecord(Level.INFO, "kept 1"));
+        handler.publish(new LogRecord(Level.INFO, "kept 2"));
+        handler.publish(new LogRecord(Level.INFO, "dropped 1"));
+        handler.publish(new LogRecord(Level.FINE, "dropped 2"));
+        releaseWriter.countDown();
+        handler.flush();
+
+        assertEquals(List.of("blocking", String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 2), "kept 1", "kept 2"),
+                target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFull_waitsForRoomForWarnings() throws Exception {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage().equals("blocking")) {
+                    writerBlocked.countDown();
+                    try {
+                        releaseWriter.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1);
+
+        handler.publish(new LogRecord(Level.INFO, "blocking"));
+        writerBlocked.await();
+        handler.publish(new LogRecord(Level.INFO, "kept"));
+        Thread warningThread = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        releaseWriter.countDown();
+        warningThread.join();
+        handler.flush();
+
+        assertEquals(List.of("blocking", "kept", "warning"), target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void close_writesRemainingRecordsAndClosesTargets() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 8);
+
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(List.of("before close"), target.getMessages());
+        assertTrue(target.isClosed);
+    }
+
+    /**
+     * A handler that keeps the records it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> getMessages() {
+            synchronized (records) {
+                return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+            }
+        }
+    }
+}
@@ -11,7 +11,12 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Flight recording file : null\n"
+                + "Flight recording max size (MB) : 64\n"
+                + "API server port : null\n"
+                + "API server threads : 4\n"
+                + "API token file : api_token.txt";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,83 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    private static final double ALLOWED_RELATIVE_ERROR = 0.035;
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.5));
+    }
+
+    @Test
+    public void getValueAtPercentile_emptyHistogram_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0, histogram.getTotalCount());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        assertEquals(10_000, histogram.getTotalCount());
+        assertEquals(10_000_000, histogram.getMaxValue());
+        assertWithinRelativeError(5_000_000, histogram.getValueAtPercentile(50));
+        assertWithinRelativeError(9_500_000, histogram.getValueAtPercentile(95));
+        assertWithinRelativeError(9_900_000, histogram.getValueAtPercentile(99));
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_outOfRangeValues_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getMaxValue());
+
+        long hugeValue = LatencyHistogram.MAX_TRACKABLE_VALUE * 4;
+        histogram.record(hugeValue);
+        assertEquals(hugeValue, histogram.getMaxValue());
+        assertEquals(hugeValue, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void reset_recordedValues_emptiesHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        LatencyHistogram copy = new LatencyHistogram(histogram);
+        histogram.reset();
+
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        // copies are not affected
+        assertEquals(1, copy.getTotalCount());
+        assertEquals(42, copy.getValueAtPercentile(50));
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * ALLOWED_RELATIVE_ERROR,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
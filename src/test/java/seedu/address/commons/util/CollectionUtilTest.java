@@ -1,14 +1,18 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +86,39 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void replaceChanged_changeInMiddle_keepsUnchangedElements() {
+        String first = new String("a");
+        String last = new String("d");
+        List<String> list = new ArrayList<>(Arrays.asList(first, "b", "c", last));
+
+        CollectionUtil.replaceChanged(list, Arrays.asList("a", "x", "y", "z", "d"));
+
+        assertEquals(Arrays.asList("a", "x", "y", "z", "d"), list);
+        assertSame(first, list.get(0));
+        assertSame(last, list.get(4));
+    }
+
+    @Test
+    public void replaceChanged_randomLists_matchesNewElements() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            List<Integer> list = randomList(random);
+            List<Integer> newElements = randomList(random);
+            CollectionUtil.replaceChanged(list, newElements);
+            assertEquals(newElements, list);
+        }
+    }
+
+    private static List<Integer> randomList(Random random) {
+        List<Integer> list = new ArrayList<>();
+        int size = random.nextInt(8);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(3));
+        }
+        return list;
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    private static CsvReader readerOf(String input) {
+        return new CsvReader(new BufferedReader(new StringReader(input)));
+    }
+
+    @Test
+    public void readRow_plainFields_splitsOnCommas() throws IOException {
+        CsvReader reader = readerOf("a,b,c\n,d,\n");
+        assertEquals(Arrays.asList("a", "b", "c"), reader.readRow());
+        assertEquals(Arrays.asList("", "d", ""), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_quotedFields_keepsCommasQuotesAndLineBreaks() throws IOException {
+        CsvReader reader = readerOf("\"Block 1, Street 2\",\"say \"\"hi\"\"\",\"two\nlines\"\nnext\n");
+        assertEquals(Arrays.asList("Block 1, Street 2", "say \"hi\"", "two\nlines"), reader.readRow());
+        assertEquals(1, reader.getRowLineNumber());
+        assertEquals(Arrays.asList("next"), reader.readRow());
+        assertEquals(3, reader.getRowLineNumber());
+    }
+
+    @Test
+    public void readRow_blankLines_skipped() throws IOException {
+        CsvReader reader = readerOf("a\n\n   \nb");
+        assertEquals(Arrays.asList("a"), reader.readRow());
+        assertEquals(Arrays.asList("b"), reader.readRow());
+        assertEquals(4, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_byteOrderMark_removedFromFirstField() throws IOException {
+        CsvReader reader = readerOf("\uFEFFname,phone\n\uFEFFkept\n");
+        assertEquals(Arrays.asList("name", "phone"), reader.readRow());
+        // only a mark at the start of the input is removed
+        assertEquals(Arrays.asList("\uFEFFkept"), reader.readRow());
+    }
+
+    @Test
+    public void readRow_unclosedQuote_throwsIoException() {
+        CsvReader reader = readerOf("a\n\"b,c\nd");
+        assertThrows(IOException.class, "Line 2: a quoted field is not closed", () -> {
+            reader.readRow();
+            reader.readRow();
+        });
+    }
+}
@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,60 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void computeChecksum() throws Exception {
+        Path file = testFolder.resolve("checksum.txt");
+
+        FileUtil.writeToFile(file, "abc");
+        // well-known SHA-256 digest of "abc"
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                FileUtil.computeChecksum(file));
+
+        FileUtil.writeToFile(file, "abd");
+        assertNotEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                FileUtil.computeChecksum(file));
+    }
+
+    @Test
+    public void getTotalSize() throws Exception {
+        Path directory = testFolder.resolve("data");
+        FileUtil.createParentDirsOfFile(directory.resolve("nested").resolve("b.json"));
+        FileUtil.writeToFile(directory.resolve("a.json"), "abc");
+        FileUtil.writeToFile(directory.resolve("nested").resolve("b.json"), "defgh");
+
+        assertEquals(3, FileUtil.getTotalSize(directory.resolve("a.json")));
+        assertEquals(8, FileUtil.getTotalSize(directory));
+
+        // missing path -> 0
+        assertEquals(0, FileUtil.getTotalSize(testFolder.resolve("missing.json")));
+    }
+
+    @Test
+    public void openForWritingAndReading_compressed_success() throws Exception {
+        Path file = testFolder.resolve("compressed.gz");
+        byte[] content = "compressed content".getBytes(StandardCharsets.UTF_8);
+
+        try (OutputStream out = FileUtil.openForWriting(file, true)) {
+            out.write(content);
+        }
+        try (InputStream in = FileUtil.openForReading(file)) {
+            assertTrue(in instanceof GZIPInputStream);
+            assertEquals("compressed content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void openForWritingAndReading_uncompressed_success() throws Exception {
+        Path file = testFolder.resolve("plain.txt");
+
+        try (OutputStream out = FileUtil.openForWriting(file, false)) {
+            out.write("plain content".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals("plain content", FileUtil.readFromFile(file));
+        try (InputStream in = FileUtil.openForReading(file)) {
+            assertFalse(in instanceof GZIPInputStream);
+            assertEquals("plain content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
 }
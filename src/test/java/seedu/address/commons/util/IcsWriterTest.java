@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class IcsWriterTest {
+
+    private final StringWriter output = new StringWriter();
+    private final IcsWriter writer = new IcsWriter(output);
+
+    @Test
+    public void writeProperty_shortLine_endsWithCrlf() throws IOException {
+        writer.begin("VEVENT");
+        writer.writeProperty("RRULE", "FREQ=WEEKLY;BYDAY=MO");
+        writer.end("VEVENT");
+        assertEquals("BEGIN:VEVENT\r\nRRULE:FREQ=WEEKLY;BYDAY=MO\r\nEND:VEVENT\r\n", output.toString());
+    }
+
+    @Test
+    public void writeText_specialCharacters_escaped() throws IOException {
+        writer.writeText("SUMMARY", "Math, Physics; A\\B\nnext");
+        assertEquals("SUMMARY:Math\\, Physics\\; A\\\\B\\nnext\r\n", output.toString());
+    }
+
+    @Test
+    public void writeText_longLine_foldedWithinLimit() throws IOException {
+        // three octets each in UTF-8, so a fold may not fall on every character boundary
+        String text = "Lesson " + "数".repeat(60);
+        writer.writeText("SUMMARY", text);
+
+        String[] lines = output.toString().split("\r\n");
+        assertTrue(lines.length > 1);
+        StringBuilder unfolded = new StringBuilder(lines[0]);
+        for (String line : lines) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= IcsWriter.MAX_LINE_OCTETS);
+        }
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(lines[i].startsWith(" "));
+            unfolded.append(lines[i].substring(1));
+        }
+        assertEquals("SUMMARY:" + text, unfolded.toString());
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchableWordsTest {
+
+    @Test
+    public void containsAnyWord() {
+        SearchableWords words = new SearchableWords("Peter  Jack the 2nd");
+        assertTrue(words.containsAnyWord("jack"));
+        assertTrue(words.containsAnyWord("bob", "2nd"));
+        assertFalse(words.containsAnyWord("Jack")); // keyword not in lower case
+        assertFalse(words.containsAnyWord("pete")); // partial word
+        assertFalse(words.containsAnyWord()); // no keywords
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,37 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords, toLowerCaseWord and containsWord -----------------
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(""));
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords("    "));
+        assertArrayEquals(new String[] {"aaa", "bbb", "ccc@1"}, StringUtil.toLowerCaseWords("  AAA   bBb\tccc@1  "));
+    }
+
+    @Test
+    public void toLowerCaseWord_invalidWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.toLowerCaseWord("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.toLowerCaseWord("aaa BBB"));
+    }
+
+    @Test
+    public void toLowerCaseKeywords_validKeywords_correctResult() {
+        assertArrayEquals(new String[] {"aaa", "bbb"}, StringUtil.toLowerCaseKeywords(List.of(" AAA", "bBb ")));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.toLowerCaseKeywords(List.of("aaa", "")));
+    }
+
+    @Test
+    public void containsWord_lowerCaseInputs_correctResult() {
+        String[] words = StringUtil.toLowerCaseWords("AAA bBb ccc");
+        assertTrue(StringUtil.containsWord(words, StringUtil.toLowerCaseWord("  Bbb ")));
+        assertFalse(StringUtil.containsWord(words, StringUtil.toLowerCaseWord("bb")));
+        assertFalse(StringUtil.containsWord(new String[0], "aaa"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    /** Characters that each check treats differently, including non-ASCII letters and digits. */
+    private static final char[] INTERESTING_CHARACTERS = {
+        'a', 'Z', '0', '9', ' ', ':', '-', '_', '\t', '\n', '\u00e9', '\u0663'
+    };
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric("friends2"));
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("best friends"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+
+        assertSameAsRegex("\\p{Alnum}+", ValidationUtil::isAlphanumeric);
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        assertTrue(ValidationUtil.isAlphanumericWords("John Doe 2nd"));
+        assertTrue(ValidationUtil.isAlphanumericWords("John  "));
+        assertFalse(ValidationUtil.isAlphanumericWords(""));
+        assertFalse(ValidationUtil.isAlphanumericWords(" John"));
+        assertFalse(ValidationUtil.isAlphanumericWords("John*"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+
+        assertSameAsRegex("[\\p{Alnum}][\\p{Alnum} ]*", ValidationUtil::isAlphanumericWords);
+    }
+
+    @Test
+    public void isDigits() {
+        assertTrue(ValidationUtil.isDigits("911", 3));
+        assertTrue(ValidationUtil.isDigits("", 0));
+        assertFalse(ValidationUtil.isDigits("91", 3));
+        assertFalse(ValidationUtil.isDigits("9011p041", 3));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3));
+
+        assertSameAsRegex("\\d{3,}", test -> ValidationUtil.isDigits(test, 3));
+    }
+
+    @Test
+    public void parseTime() {
+        assertEquals(Optional.of(LocalTime.of(0, 0)), ValidationUtil.parseTime("00:00"));
+        assertEquals(Optional.of(LocalTime.of(23, 59)), ValidationUtil.parseTime("23:59"));
+        assertEquals(Optional.empty(), ValidationUtil.parseTime("24:00"));
+        assertEquals(Optional.empty(), ValidationUtil.parseTime("12:60"));
+        assertEquals(Optional.empty(), ValidationUtil.parseTime("9:00"));
+        assertEquals(Optional.empty(), ValidationUtil.parseTime("09:00:00"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.parseTime(null));
+
+        Pattern timePattern = Pattern.compile("(0[0-9]|1[0-9]|2[0-3]):([0-5][0-9])");
+        for (int hour = 0; hour < 100; hour++) {
+            for (int minute = 0; minute < 100; minute++) {
+                String time = String.format("%02d:%02d", hour, minute);
+                assertEquals(timePattern.matcher(time).matches(), ValidationUtil.parseTime(time).isPresent(), time);
+            }
+        }
+    }
+
+    /**
+     * Asserts that {@code check} accepts exactly the strings that {@code regex} matches, for every string of up to
+     * three {@code INTERESTING_CHARACTERS}.
+     */
+    private void assertSameAsRegex(String regex, Predicate<String> check) {
+        Pattern pattern = Pattern.compile(regex);
+        for (String test : getAllStringsUpToLength(3)) {
+            assertEquals(pattern.matcher(test).matches(), check.test(test), "\"" + test + "\"");
+        }
+    }
+
+    private List<String> getAllStringsUpToLength(int maxLength) {
+        List<String> strings = new ArrayList<>(List.of(""));
+        List<String> previousLength = List.of("");
+        for (int length = 1; length <= maxLength; length++) {
+            List<String> currentLength = new ArrayList<>();
+            for (String prefix : previousLength) {
+                for (char c : INTERESTING_CHARACTERS) {
+                    currentLength.add(prefix + c);
+                }
+            }
+            strings.addAll(currentLength);
+            previousLength = currentLength;
+        }
+        return strings;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,13 +13,20 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LatencyStats;
+import seedu.address.commons.core.LatencyStats.Phase;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.persons.AddPersonCommand;
 import seedu.address.logic.parser.CliSyntax;
@@ -69,6 +77,20 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsLatencyOfEachPhase() throws Exception {
+        LatencyStats.reset();
+        logic.execute(ScheduleCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> logic.execute(CliSyntax.PERSON_COMMAND + " -v 1"));
+
+        Map<String, Map<Phase, LatencyHistogram>> histograms = LatencyStats.getHistograms();
+        assertEquals(Set.of(Phase.PARSE, Phase.EXECUTE, Phase.SCHEDULE_REBUILD, Phase.SAVE),
+                histograms.get(ScheduleCommand.COMMAND_WORD).keySet());
+        // failed commands are only timed up to the phase that failed
+        assertEquals(Set.of(Phase.PARSE), histograms.get(CliSyntax.PERSON_COMMAND + " -v").keySet());
+        LatencyStats.reset();
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -89,6 +111,24 @@ public class LogicManagerTest {
         assertThrows(CommandException.class, expectedMessage, () -> logic.execute(addCommand));
     }
 
+    @Test
+    public void execute_commandThrowsAfterChangingModel_snapshotPublished() {
+        model = new ViewPersonFailingModelManager();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        String addCommand = CliSyntax.PERSON_COMMAND + " " + AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        assertThrows(IllegalStateException.class, () -> logic.execute(addCommand));
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        List<Person> publishedPersons = model.getAddressBookSnapshot().getPersonList();
+        assertEquals(1, publishedPersons.size());
+        assertTrue(expectedPerson.isSamePerson(publishedPersons.get(0)));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -147,6 +187,16 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A model that fails when asked to view a student, after the command has already changed it.
+     */
+    private static class ViewPersonFailingModelManager extends ModelManager {
+        @Override
+        public void setPersonToView(Person person) {
+            throw new IllegalStateException();
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.group.Group;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.NoOverlapLessonList;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Timeslot;
+import seedu.address.model.person.Exam;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) for {@code ExportScheduleCommand}.
+ */
+public class ExportScheduleCommandTest {
+
+    /** A Wednesday. */
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2021-10-20T09:30:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager();
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportScheduleCommand(null));
+    }
+
+    @Test
+    public void execute_lessonsAndExams_writesEvents() throws Exception {
+        Person person = new PersonBuilder().withName("Amy Bee")
+                .withLessonsList(NoOverlapLessonList.of(List.of(
+                        new Lesson(new Timeslot("10:00", "12:00"), new Subject("Math"), DayOfWeek.MONDAY))))
+                .withExams(List.of(new Exam(new Subject("Physics"), LocalDateTime.of(2021, 12, 1, 14, 0))))
+                .build();
+        Group group = new GroupBuilder().withName("Team 2").build()
+                .assignLesson(new Lesson(new Timeslot("14:00", "15:00"), new Subject("Chem"), DayOfWeek.WEDNESDAY));
+        model.addPerson(person);
+        model.addGroup(group);
+        Path file = testFolder.resolve("export").resolve("schedule.ics");
+
+        CommandResult result = new ExportScheduleCommand(file, CLOCK).execute(model);
+
+        assertEquals(String.format(ExportScheduleCommand.MESSAGE_SUCCESS, 2, 1, file), result.getFeedbackToUser());
+        String calendar = Files.readString(file);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+        // the Monday lesson starts on the Monday after today, the Wednesday lesson today
+        assertTrue(calendar.contains("DTSTART:20211025T100000\r\nDTEND:20211025T120000\r\n"
+                + "RRULE:FREQ=WEEKLY;BYDAY=MO\r\nSUMMARY:Math (Amy Bee)\r\n"));
+        assertTrue(calendar.contains("DTSTART:20211020T140000\r\nDTEND:20211020T150000\r\n"
+                + "RRULE:FREQ=WEEKLY;BYDAY=WE\r\nSUMMARY:Chem (Team 2)\r\n"));
+        assertTrue(calendar.contains("DTSTAMP:20211020T093000Z\r\nDTSTART:20211201T140000\r\nDURATION:PT2H\r\n"
+                + "SUMMARY:Exam: Physics (Amy Bee)\r\n"));
+        assertEquals(3, calendar.split("BEGIN:VEVENT", -1).length - 1);
+
+        // UIDs are made from what each event is, and may be folded onto more than one line
+        String unfolded = calendar.replace("\r\n ", "");
+        assertTrue(unfolded.contains("UID:" + person.getId() + "-lesson-MO1000-Math@tutormaster\r\n"));
+        assertTrue(unfolded.contains("UID:" + group.getId() + "-lesson-WE1400-Chem@tutormaster\r\n"));
+        assertTrue(unfolded.contains("UID:" + person.getId() + "-exam-20211201T140000-Physics@tutormaster\r\n"));
+    }
+
+    @Test
+    public void execute_lessonAddedBeforeOthers_otherUidsUnchanged() throws Exception {
+        Lesson math = new Lesson(new Timeslot("10:00", "12:00"), new Subject("Math A"), DayOfWeek.MONDAY);
+        Lesson chem = new Lesson(new Timeslot("09:00", "10:00"), new Subject("Chem"), DayOfWeek.MONDAY);
+        Person person = new PersonBuilder().withLessonsList(NoOverlapLessonList.of(List.of(math))).build();
+        model.addPerson(person);
+        Path file = testFolder.resolve("schedule.ics");
+        new ExportScheduleCommand(file, CLOCK).execute(model);
+        String mathUid = "UID:" + person.getId() + "-lesson-MO1000-Math+A@tutormaster\r\n";
+        assertTrue(Files.readString(file).replace("\r\n ", "").contains(mathUid));
+
+        model.setPerson(person, new PersonBuilder(person)
+                .withLessonsList(NoOverlapLessonList.of(List.of(chem, math))).build());
+        new ExportScheduleCommand(file, CLOCK).execute(model);
+
+        String calendar = Files.readString(file).replace("\r\n ", "");
+        assertTrue(calendar.contains(mathUid));
+        assertTrue(calendar.contains("UID:" + person.getId() + "-lesson-MO0900-Chem@tutormaster\r\n"));
+    }
+
+    @Test
+    public void execute_emptyAddressBook_writesEmptyCalendar() throws Exception {
+        Path file = testFolder.resolve("schedule.ics");
+
+        new ExportScheduleCommand(file, CLOCK).execute(model);
+
+        assertEquals("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:" + ExportScheduleCommand.PRODUCT_ID
+                + "\r\nCALSCALE:GREGORIAN\r\nEND:VCALENDAR\r\n", Files.readString(file));
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() {
+        // the folder itself cannot be opened as a file
+        assertThrows(CommandException.class, () -> new ExportScheduleCommand(testFolder, CLOCK).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportScheduleCommand exportFirst = new ExportScheduleCommand(Path.of("first.ics"));
+        ExportScheduleCommand exportSecond = new ExportScheduleCommand(Path.of("second.ics"));
+
+        assertTrue(exportFirst.equals(exportFirst));
+        assertTrue(exportFirst.equals(new ExportScheduleCommand(Path.of("first.ics"))));
+        assertFalse(exportFirst.equals(1));
+        assertFalse(exportFirst.equals(null));
+        assertFalse(exportFirst.equals(exportSecond));
+    }
+}
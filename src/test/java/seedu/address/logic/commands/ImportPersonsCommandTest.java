@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.persons.ImportPersonsCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) for {@code ImportPersonsCommand}.
+ */
+public class ImportPersonsCommandTest {
+
+    private static final String HEADER = "Name,Phone,Email,Address,Tags\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path writeCsv(String content) throws IOException {
+        Path file = testFolder.resolve("students.csv");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportPersonsCommand(null));
+    }
+
+    @Test
+    public void execute_fileWithByteOrderMark_studentsAdded() throws Exception {
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+        // as written by spreadsheet apps saving a UTF-8 CSV file
+        Path file = writeCsv("\uFEFF" + HEADER + "Carl Tan,98765432,carl@example.com,Clementi,\n");
+
+        new ImportPersonsCommand(file).execute(model);
+
+        assertEquals(sizeBefore + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_validRows_allStudentsAdded() throws Exception {
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+        Path file = writeCsv(HEADER
+                + VALID_NAME_AMY + "," + VALID_PHONE_AMY + "," + VALID_EMAIL_AMY + ",\"" + VALID_ADDRESS_AMY
+                + "\",friends owesMoney\n"
+                + "Carl Tan,98765432,carl@example.com,Clementi,\n");
+
+        CommandResult result = new ImportPersonsCommand(file).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format("Imported %d students", 2)));
+        assertFalse(result.getFeedbackToUser().contains("Skipped"));
+        assertEquals(sizeBefore + 2, model.getAddressBook().getPersonList().size());
+        Person amy = model.getAddressBook().getPersonList().get(sizeBefore);
+        assertEquals(new Name(VALID_NAME_AMY), amy.getName());
+        assertEquals(VALID_ADDRESS_AMY, amy.getAddress().value);
+        assertTrue(amy.getTags().contains(new Tag("owesMoney")));
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skippedAndReported() throws Exception {
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+        Path file = writeCsv("phone,name,address,email\n"
+                + "94351253,Alice Pauline,\"123, Jurong West Ave 6, #08-111\",alice@example.com\n"
+                + "11111111,Amy Bee,Amy Street,amy@example.com\n"
+                + "11111111,Amy Bee,Amy Street,amy@example.com\n"
+                + "not a phone,Ben,Ben Street,ben@example.com\n"
+                + "22222222,Ben\n");
+
+        String feedback = new ImportPersonsCommand(file).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format("Imported %d students", 1)));
+        assertTrue(feedback.contains(String.format(ImportPersonsCommand.MESSAGE_SKIPPED_ROWS, 4)));
+        assertTrue(feedback.contains("Line 2: " + ImportPersonsCommand.MESSAGE_DUPLICATE_ROW));
+        assertTrue(feedback.contains("Line 4: " + ImportPersonsCommand.MESSAGE_DUPLICATE_ROW));
+        assertTrue(feedback.contains("Line 5: "));
+        assertTrue(feedback.contains("Line 6: "
+                + String.format(ImportPersonsCommand.MESSAGE_WRONG_FIELD_COUNT, 4, 2)));
+        assertEquals(sizeBefore + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_manySkippedRows_onlyFirstListed() throws Exception {
+        StringBuilder content = new StringBuilder(HEADER);
+        for (int i = 0; i < ImportPersonsCommand.MAX_SKIPPED_ROWS_SHOWN + 3; i++) {
+            content.append("Amy,phone,amy@example.com,Street,\n");
+        }
+
+        String feedback = new ImportPersonsCommand(writeCsv(content.toString())).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportPersonsCommand.MESSAGE_MORE_SKIPPED_ROWS, 3)));
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path file = writeCsv("name,phone\nAmy,11111111\n");
+        assertThrows(CommandException.class, String.format(ImportPersonsCommand.MESSAGE_MISSING_COLUMNS,
+                "email, address"), () -> new ImportPersonsCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, () -> new ImportPersonsCommand(file).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportPersonsCommand importFirst = new ImportPersonsCommand(Path.of("first.csv"));
+        ImportPersonsCommand importSecond = new ImportPersonsCommand(Path.of("second.csv"));
+
+        assertTrue(importFirst.equals(importFirst));
+        assertTrue(importFirst.equals(new ImportPersonsCommand(Path.of("first.csv"))));
+        assertFalse(importFirst.equals(1));
+        assertFalse(importFirst.equals(null));
+        assertFalse(importFirst.equals(importSecond));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LatencyStats;
+import seedu.address.commons.core.LatencyStats.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @BeforeEach
+    @AfterEach
+    public void resetStats() {
+        LatencyStats.reset();
+    }
+
+    @Test
+    public void execute_nothingRecorded_showsNoStats() {
+        CommandResult result = new StatsCommand(false).execute(model);
+        assertEquals(StatsCommand.MESSAGE_NO_STATS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_recordedPhases_showsPercentilesPerCommand() {
+        LatencyStats.startCommand("student -a");
+        LatencyStats.record(Phase.PARSE, 1_000_000);
+        LatencyStats.record(Phase.SAVE, 2_000_000);
+        LatencyStats.endCommand();
+        LatencyStats.startCommand("list");
+        LatencyStats.record(Phase.EXECUTE, 3_000_000);
+        LatencyStats.endCommand();
+
+        String feedback = new StatsCommand(false).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(StatsCommand.MESSAGE_HEADER));
+        assertTrue(feedback.contains("student -a (1 run)"));
+        assertTrue(feedback.contains(Phase.PARSE + ": 1.00 / 1.00 / 1.00 / 1.00"));
+        assertTrue(feedback.contains(Phase.SAVE + ": 2.00 / 2.00 / 2.00 / 2.00"));
+        assertTrue(feedback.contains("list (1 run)"));
+        // commands are listed in alphabetical order
+        assertTrue(feedback.indexOf("list") < feedback.indexOf("student -a"));
+    }
+
+    @Test
+    public void execute_reset_clearsStats() {
+        LatencyStats.record(Phase.SAVE, 1_000_000);
+
+        CommandResult result = new StatsCommand(true).execute(model);
+
+        assertEquals(StatsCommand.MESSAGE_RESET_SUCCESS, result.getFeedbackToUser());
+        assertTrue(LatencyStats.getHistograms().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand showCommand = new StatsCommand(false);
+        assertTrue(showCommand.equals(showCommand));
+        assertTrue(showCommand.equals(new StatsCommand(false)));
+        assertFalse(showCommand.equals(new StatsCommand(true)));
+        assertFalse(showCommand.equals(null));
+        assertFalse(showCommand.equals(1));
+    }
+}
@@ -136,6 +136,33 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix dashTa = new Prefix("-ta");
+        String argsString = "preamble -ta dashTa value -t dashT value -tab";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTa);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTa, "dashTa value", "b");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+
+        // same result whatever the order of the prefixes
+        argMultimap = ArgumentTokenizer.tokenize(argsString, dashTa, dashT);
+        assertArgumentPresent(argMultimap, dashTa, "dashTa value", "b");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
+    @Test
+    public void tokenize_prefixAtEnd_emptyValue() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" p/", pSlash, dashT);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "");
+
+        // prefix cut short by the end of the string
+        argMultimap = ArgumentTokenizer.tokenize(" p", pSlash, dashT);
+        assertPreamblePresent(argMultimap, "p");
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportScheduleCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+
+public class ScheduleCommandParserTest {
+
+    private ScheduleCommandParser parser = new ScheduleCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsScheduleCommand() throws Exception {
+        assertTrue(parser.parse("") instanceof ScheduleCommand);
+        assertTrue(parser.parse("   ") instanceof ScheduleCommand);
+    }
+
+    @Test
+    public void parse_exportWithFile_returnsExportScheduleCommand() {
+        assertParseSuccess(parser, " -export data/schedule.ics",
+                new ExportScheduleCommand(Paths.get("data/schedule.ics")));
+
+        // path with spaces
+        assertParseSuccess(parser, "-export my files/schedule.ics",
+                new ExportScheduleCommand(Paths.get("my files/schedule.ics")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "-export", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportScheduleCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "-exports data/schedule.ics", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ScheduleCommand.MESSAGE_USAGE));
+    }
+}
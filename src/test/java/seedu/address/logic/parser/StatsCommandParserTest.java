@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsShowCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(false));
+        assertParseSuccess(parser, "   ", new StatsCommand(false));
+    }
+
+    @Test
+    public void parse_resetFlag_returnsResetCommand() {
+        assertParseSuccess(parser, " " + StatsCommand.RESET_FLAG + " ", new StatsCommand(true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " -x", expectedMessage);
+        assertParseFailure(parser, " " + StatsCommand.RESET_FLAG + " 1", expectedMessage);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.persons;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.persons.ImportPersonsCommand;
+
+public class ImportPersonsCommandParserTest {
+
+    private ImportPersonsCommandParser parser = new ImportPersonsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportPersonsCommand() {
+        assertParseSuccess(parser, " data/students.csv ", new ImportPersonsCommand(Paths.get("data/students.csv")));
+
+        // path with spaces
+        assertParseSuccess(parser, "my files/students.csv",
+                new ImportPersonsCommand(Paths.get("my files/students.csv")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportPersonsCommand.MESSAGE_USAGE));
+    }
+}
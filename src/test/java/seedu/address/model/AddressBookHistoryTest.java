@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.ListSplice;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void commit_nothingRecorded_savesNoStep() {
+        AddressBookHistory history = new AddressBookHistory();
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_addedPerson_removesAndAddsItBack() {
+        AddressBookHistory history = new AddressBookHistory();
+        addPerson(history, ALICE);
+
+        history.undo(addressBook);
+        assertEquals(List.of(), addressBook.getPersonList());
+        assertTrue(history.canRedo());
+
+        history.redo(addressBook);
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_cannotRedo() {
+        AddressBookHistory history = new AddressBookHistory();
+        addPerson(history, ALICE);
+        history.undo(addressBook);
+
+        addPerson(history, BENSON);
+        assertFalse(history.canRedo());
+        assertEquals(1, history.getHeldEntryCount());
+    }
+
+    @Test
+    public void commit_tooManySteps_forgetsOldestSteps() {
+        AddressBookHistory history = new AddressBookHistory(2, AddressBookHistory.DEFAULT_MAX_HELD_ENTRIES);
+        addPerson(history, ALICE);
+        addPerson(history, BENSON);
+        addPerson(history, CARL);
+        assertEquals(2, history.getStepCount());
+
+        history.undo(addressBook);
+        history.undo(addressBook);
+        assertFalse(history.canUndo());
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_tooManyEntries_keepsLatestStep() {
+        AddressBookHistory history = new AddressBookHistory(AddressBookHistory.DEFAULT_MAX_STEPS, 1);
+        addPerson(history, ALICE);
+        addPerson(history, BENSON);
+        assertEquals(1, history.getStepCount());
+        assertEquals(1, history.getHeldEntryCount());
+    }
+
+    /**
+     * Adds {@code person} to the end of the address book, recording and committing the change in {@code history}.
+     */
+    private void addPerson(AddressBookHistory history, Person person) {
+        int index = addressBook.getPersonList().size();
+        addressBook.addPerson(person);
+        history.recordPersonSplices(List.of(new ListSplice<>(index, List.of(), List.of(person))));
+        history.commit();
+    }
+}
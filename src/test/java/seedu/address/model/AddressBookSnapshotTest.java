@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE_WITH_LESSON;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lesson.LessonWithAttendees;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonWithDetails;
+import seedu.address.testutil.TypicalObjects;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void of_addressBookChangedAfterwards_snapshotUnchanged() {
+        AddressBook addressBook = TypicalObjects.getTypicalAddressBook();
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+
+        assertEquals(persons, snapshot.getPersonList());
+        assertEquals(persons.size() - 1, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void of_snapshot_returnsSameSnapshot() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(TypicalObjects.getTypicalAddressBook());
+        assertSame(snapshot, AddressBookSnapshot.of(snapshot));
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(TypicalObjects.getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getSortedLessonsWithAttendees_sameAsAddressBook() {
+        AddressBook addressBook = TypicalObjects.getTypicalAddressBook();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        List<LessonWithAttendees> expected = addressBook.getSortedLessonsWithAttendees();
+        List<LessonWithAttendees> actual = snapshot.getSortedLessonsWithAttendees();
+        assertFalse(expected.isEmpty());
+        assertEquals(toLessons(expected), toLessons(actual));
+        assertEquals(toAttendees(expected), toAttendees(actual));
+    }
+
+    @Test
+    public void getPersonWithDetails_sameAsAddressBook() {
+        AddressBook addressBook = TypicalObjects.getTypicalAddressBook();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        PersonWithDetails expected = addressBook.getPersonWithDetails(ALICE_WITH_LESSON);
+        PersonWithDetails actual = snapshot.getPersonWithDetails(ALICE_WITH_LESSON);
+        assertEquals(expected.getPerson(), actual.getPerson());
+        assertEquals(expected.getTasks(), actual.getTasks());
+        assertEquals(expected.getTasksCompletion(), actual.getTasksCompletion());
+        assertEquals(expected.getGroups().size(), actual.getGroups().size());
+    }
+
+    private static List<?> toLessons(List<LessonWithAttendees> lessons) {
+        return lessons.stream().map(LessonWithAttendees::getLesson).collect(Collectors.toList());
+    }
+
+    private static List<?> toAttendees(List<LessonWithAttendees> lessons) {
+        return lessons.stream().map(LessonWithAttendees::getAttendeeList).collect(Collectors.toList());
+    }
+}
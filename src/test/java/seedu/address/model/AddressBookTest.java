@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -15,17 +17,21 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupWithDetails;
 import seedu.address.model.lesson.LessonWithAttendees;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonWithDetails;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.testutil.GroupBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TaskBuilder;
 
@@ -139,6 +145,63 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getGroupList().remove(0));
     }
 
+    @Test
+    public void getPersonWithDetails_nothingChanged_returnsSameDetails() {
+        Person student = addGroupOfTwo()[0];
+        PersonWithDetails details = addressBook.getPersonWithDetails(student);
+        assertSame(details, addressBook.getPersonWithDetails(student));
+    }
+
+    @Test
+    public void getPersonWithDetails_unrelatedPersonEdited_returnsSameDetails() {
+        Person student = addGroupOfTwo()[0];
+        addressBook.addPerson(ALICE);
+        PersonWithDetails details = addressBook.getPersonWithDetails(student);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertSame(details, addressBook.getPersonWithDetails(student));
+    }
+
+    @Test
+    public void getPersonWithDetails_groupmateEdited_returnsNewDetails() {
+        Person[] students = addGroupOfTwo();
+        PersonWithDetails details = addressBook.getPersonWithDetails(students[0]);
+
+        Person editedGroupmate = new PersonBuilder(students[1]).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(students[1], editedGroupmate);
+        PersonWithDetails newDetails = addressBook.getPersonWithDetails(students[0]);
+        assertNotSame(details, newDetails);
+        GroupWithDetails group = newDetails.getGroups().iterator().next();
+        assertTrue(group.getPersons().contains(editedGroupmate));
+    }
+
+    @Test
+    public void getGroupWithDetails_memberRemoved_returnsDetailsWithoutMember() {
+        Person[] students = addGroupOfTwo();
+        Group group = addressBook.getGroupList().get(0);
+        assertEquals(2, addressBook.getGroupWithDetails(group).getPersons().size());
+
+        addressBook.removePerson(students[1]);
+        Group groupAfterRemoval = addressBook.getGroupList().get(0);
+        assertEquals(Set.of(students[0]), addressBook.getGroupWithDetails(groupAfterRemoval).getPersons());
+    }
+
+    /**
+     * Adds two students and a group holding both of them to the address book, and returns the students.
+     */
+    private Person[] addGroupOfTwo() {
+        String groupId = "4a2f0b84-8ef1-4c33-93a9-7b4f1a3c0d11";
+        Person first = new PersonBuilder().withName("First Student").withPhone("91111111")
+                .withAssignedGroupIds(groupId).build();
+        Person second = new PersonBuilder().withName("Second Student").withPhone("92222222")
+                .withAssignedGroupIds(groupId).build();
+        addressBook.addPerson(first);
+        addressBook.addPerson(second);
+        addressBook.addGroup(new GroupBuilder().withUniqueId(groupId).buildWithID()
+                .addPersonId(first.getId()).addPersonId(second.getId()));
+        return new Person[] {first, second};
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonWithDetails;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+public class DetailsCacheTest {
+
+    private final DetailsCache cache = new DetailsCache();
+
+    @Test
+    public void putPersonWithDetails_moreThanMaxEntries_leastRecentlyUsedDropped() {
+        List<PersonWithDetails> details = new ArrayList<>();
+        for (int i = 0; i <= DetailsCache.MAX_ENTRIES; i++) {
+            details.add(withTasks(new PersonBuilder().withName("Student " + i).build()));
+        }
+        for (PersonWithDetails entry : details.subList(0, DetailsCache.MAX_ENTRIES)) {
+            cache.putPersonWithDetails(entry);
+        }
+        Person first = details.get(0).getPerson();
+        Person second = details.get(1).getPerson();
+        assertSame(details.get(0), cache.getPersonWithDetails(first));
+
+        cache.putPersonWithDetails(details.get(DetailsCache.MAX_ENTRIES));
+        assertSame(details.get(0), cache.getPersonWithDetails(first));
+        assertNull(cache.getPersonWithDetails(second));
+    }
+
+    @Test
+    public void evict_taskOfDroppedEntry_newEntryKept() {
+        Person person = new PersonBuilder().build();
+        Task task = new TaskBuilder().build();
+        cache.putPersonWithDetails(withTasks(person, task));
+        for (int i = 0; i < DetailsCache.MAX_ENTRIES; i++) {
+            cache.putPersonWithDetails(withTasks(new PersonBuilder().withName("Student " + i).build()));
+        }
+        assertNull(cache.getPersonWithDetails(person));
+
+        PersonWithDetails withoutTask = withTasks(person);
+        cache.putPersonWithDetails(withoutTask);
+        cache.evict(task.getId());
+        assertSame(withoutTask, cache.getPersonWithDetails(person));
+
+        cache.evict(person.getId());
+        assertNull(cache.getPersonWithDetails(person));
+    }
+
+    private static PersonWithDetails withTasks(Person person, Task... tasks) {
+        Map<Task, Boolean> tasksCompletion = new HashMap<>();
+        for (Task task : tasks) {
+            tasksCompletion.put(task, false);
+        }
+        return new PersonWithDetails(person, Set.of(), Set.of(tasks), tasksCompletion);
+    }
+}
@@ -3,10 +3,12 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_WITH_LESSON;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalTasks.REPORT_1;
 import static seedu.address.testutil.TypicalTasks.REPORT_2;
@@ -19,9 +21,13 @@ import org.junit.jupiter.api.Test;
 
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.lesson.LessonWithAttendees;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -138,6 +144,208 @@ public class ModelManagerTest {
 
     }
 
+    @Test
+    public void getAddressBookSnapshot_changedButNotPublished_returnsOldSnapshot() {
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(ALICE);
+        assertSame(snapshot, modelManager.getAddressBookSnapshot());
+        assertEquals(0, snapshot.getPersonList().size());
+    }
+
+    @Test
+    public void publishAddressBookSnapshot_changed_publishesChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addTask(REPORT_1);
+        modelManager.publishAddressBookSnapshot();
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        assertEquals(modelManager.getAddressBook().getPersonList(), snapshot.getPersonList());
+        assertEquals(modelManager.getAddressBook().getTaskList(), snapshot.getTaskList());
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        modelManager.deleteTask(REPORT_1);
+        modelManager.publishAddressBookSnapshot();
+        assertEquals(modelManager.getAddressBook().getPersonList(),
+                modelManager.getAddressBookSnapshot().getPersonList());
+        assertEquals(0, modelManager.getAddressBookSnapshot().getTaskList().size());
+        // the earlier snapshot is unchanged
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+    }
+
+    @Test
+    public void publishAddressBookSnapshot_unchanged_keepsSnapshot() {
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.publishAddressBookSnapshot();
+        assertSame(snapshot, modelManager.getAddressBookSnapshot());
+    }
+
+    @Test
+    public void endBatch_severalChanges_notifiesOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        int[] changeCount = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("88888888").build();
+        modelManager.beginBatch();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(0, changeCount[0]);
+        modelManager.endBatch();
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(editedAlice, editedBenson), modelManager.getFilteredPersonList());
+        modelManager.publishAddressBookSnapshot();
+        assertEquals(Arrays.asList(editedAlice, editedBenson),
+                modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_duringBatch_filtersChangedList() {
+        modelManager.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+
+        modelManager.beginBatch();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Tan")));
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+        modelManager.addPerson(BENSON);
+        modelManager.endBatch();
+
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_samePredicate_doesNotNotify() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        int[] changeCount = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void setPerson_filtered_keepsFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("88888888").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(editedBenson).withName("Alice Meier").build();
+        modelManager.setPerson(editedBenson, renamedBenson);
+        assertEquals(Arrays.asList(ALICE, renamedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_matchesFilter_keepsFilter() {
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_hiddenByFilter_showsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void undoRedoAddressBook_committedSteps_movesBetweenSteps() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.beginBatch();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.addPerson(BENSON);
+        modelManager.endBatch();
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_duringBatch_isNotSavedAsStep() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+
+        modelManager.beginBatch();
+        modelManager.undoAddressBook();
+        modelManager.endBatch();
+        modelManager.commitAddressBook();
+
+        assertFalse(modelManager.canUndoAddressBook());
+        assertTrue(modelManager.canRedoAddressBook());
+        modelManager.publishAddressBookSnapshot();
+        assertEquals(Arrays.asList(), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void commitAddressBook_afterUndo_cannotRedo() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        modelManager.addPerson(BENSON);
+        assertFalse(modelManager.canRedoAddressBook());
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void refreshLessonWithAttendeesList_lessonsUnchanged_scheduleNotRebuilt() {
+        modelManager.addPerson(ALICE_WITH_LESSON);
+        modelManager.updateLessonWithAttendeesList();
+        LessonWithAttendees entry = modelManager.getSortedLessonsWithAttendees().get(0);
+
+        // a new phone number is not shown in the schedule
+        modelManager.setPerson(ALICE_WITH_LESSON, new PersonBuilder(ALICE_WITH_LESSON).withPhone("91234567").build());
+        modelManager.addPerson(BENSON);
+        modelManager.refreshLessonWithAttendeesList();
+        assertSame(entry, modelManager.getSortedLessonsWithAttendees().get(0));
+    }
+
+    @Test
+    public void refreshLessonWithAttendeesList_lessonsChangedThenUndone_scheduleRebuilt() {
+        modelManager.addPerson(ALICE_WITH_LESSON);
+        modelManager.updateLessonWithAttendeesList();
+        modelManager.commitAddressBook();
+        modelManager.setPerson(ALICE_WITH_LESSON, new PersonBuilder(ALICE_WITH_LESSON).withName("Alice Tan").build());
+        modelManager.updateLessonWithAttendeesList();
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        modelManager.refreshLessonWithAttendeesList();
+        assertEquals(ALICE_WITH_LESSON.getName().fullName,
+                modelManager.getSortedLessonsWithAttendees().get(0).getAttendeeList().get(0).getAttendeeDetails());
+
+        modelManager.undoAddressBook();
+        modelManager.refreshLessonWithAttendeesList();
+        assertTrue(modelManager.getSortedLessonsWithAttendees().isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
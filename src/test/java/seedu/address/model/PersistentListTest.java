@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_manyChunks_sameElements() {
+        List<Integer> elements = range(0, 1000);
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list);
+        assertEquals(elements, new ArrayList<>(list)); // by iterator
+        assertEquals(elements.hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void splice_noChange_returnsSameList() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(0, 10));
+        assertSame(list, list.splice(5, 0, Collections.emptyList()));
+    }
+
+    @Test
+    public void splice_invalidRange_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(0, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.splice(-1, 0, List.of(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.splice(11, 0, List.of(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.splice(8, 3, List.of()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+    }
+
+    @Test
+    public void splice_randomChanges_sameAsArrayListAndOldListsUnchanged() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<List<Integer>> oldExpected = new ArrayList<>();
+        List<PersistentList<Integer>> oldLists = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int from = random.nextInt(expected.size() + 1);
+            int removedCount = random.nextInt(4) == 0 ? random.nextInt(expected.size() - from + 1)
+                    : Math.min(random.nextInt(2), expected.size() - from);
+            List<Integer> added = range(i * 1000, i * 1000 + random.nextInt(random.nextInt(10) == 0 ? 200 : 3));
+
+            expected.subList(from, from + removedCount).clear();
+            expected.addAll(from, added);
+            list = list.splice(from, removedCount, added);
+            assertEquals(expected, list);
+
+            if (i % 100 == 0) {
+                oldExpected.add(new ArrayList<>(expected));
+                oldLists.add(list);
+            }
+        }
+        assertEquals(oldExpected, oldLists);
+    }
+
+    private static List<Integer> range(int start, int end) {
+        return IntStream.range(start, end).boxed().collect(Collectors.toList());
+    }
+}
@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalTimeslots.ELEVEN_TO_ONE;
 import static seedu.address.testutil.TypicalTimeslots.TEN_TO_TWELVE;
 import static seedu.address.testutil.TypicalTimeslots.TWELVE_TO_TWO;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 class TimeslotTest {
@@ -38,6 +40,18 @@ class TimeslotTest {
         assertTrue(Timeslot.isValidTimeslot("15:00", "15:01"));
     }
 
+    @Test
+    void parse_validTimings_returnsTimeslot() {
+        assertEquals(Optional.of(new Timeslot("09:30", "23:59")), Timeslot.parse("09:30", "23:59"));
+    }
+
+    @Test
+    void parse_invalidTimings_returnsEmpty() {
+        assertEquals(Optional.empty(), Timeslot.parse("24:00", "23:00")); // hour out of range
+        assertEquals(Optional.empty(), Timeslot.parse("9:30", "10:30")); // hour not padded
+        assertEquals(Optional.empty(), Timeslot.parse("10:30", "10:30")); // start not before end
+    }
+
     @Test
     void doTimingsOverlap_overlappingTimeslots_returnsTrue() {
         assertTrue(TEN_TO_TWELVE.doTimingsOverlap(ELEVEN_TO_ONE));
@@ -19,6 +19,14 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void getSearchableWords() {
+        assertTrue(new Name("Peter  Jack the 2nd").getSearchableWords().containsAnyWord("jack"));
+
+        // trusted names are split the same way
+        assertTrue(Name.ofTrusted("Peter Jack").getSearchableWords().containsAnyWord("peter"));
+    }
+
     @Test
     public void isValidName() {
         // null name
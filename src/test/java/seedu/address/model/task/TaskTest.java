@@ -44,6 +44,16 @@ public class TaskTest {
         assertFalse(REPORT_2.isSameTask(editedReport2));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same description and deadline, different id -> same key
+        assertEquals(REPORT_1.getIdentityKey(), new TaskBuilder(REPORT_1).build().getIdentityKey());
+
+        // different deadline -> different key
+        assertNotEquals(REPORT_1.getIdentityKey(),
+                new TaskBuilder(REPORT_1).withDeadline("2010-10-10").build().getIdentityKey());
+    }
+
     @Test
     public void equals() {
         // same object -> returns true
@@ -0,0 +1,92 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchableObservableListTest {
+
+    private final BatchableObservableList<String> list = new BatchableObservableList<>();
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(Arrays.asList("a", "b", "c"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+    }
+
+    @Test
+    public void addAll_outsideBatch_notifiesOnce() {
+        list.addAll(Arrays.asList("d", "e"));
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), list);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void set_outsideBatch_notifiesEachChange() {
+        list.set(0, "x");
+        list.set(1, "y");
+        assertEquals(2, changeCount);
+    }
+
+    @Test
+    public void endBatch_severalChanges_notifiesOnce() {
+        list.beginBatch();
+        list.set(0, "x");
+        list.remove(1);
+        list.add("d");
+        assertEquals(0, changeCount);
+        assertEquals(Arrays.asList("x", "c", "d"), list);
+
+        list.endBatch();
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void endBatch_nestedBatches_notifiesWhenOutermostEnds() {
+        list.beginBatch();
+        list.set(0, "x");
+        list.beginBatch();
+        list.set(1, "y");
+        list.endBatch();
+        assertEquals(0, changeCount);
+
+        list.endBatch();
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void endBatch_noChanges_doesNotNotify() {
+        list.beginBatch();
+        list.endBatch();
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void setAll_replacesContentsWithOneChange() {
+        List<String> newElements = Arrays.asList("d", "e");
+        list.setAll(newElements);
+        assertEquals(newElements, list);
+        assertEquals(1, changeCount);
+
+        list.clear();
+        assertEquals(0, list.size());
+        assertEquals(2, changeCount);
+    }
+
+    @Test
+    public void removeAndAddAll_range_replacesRange() {
+        list.beginBatch();
+        list.remove(0, 2);
+        list.addAll(0, Arrays.asList("x", "y", "z"));
+        list.endBatch();
+        assertEquals(Arrays.asList("x", "y", "z", "c"), list);
+        assertEquals(1, changeCount);
+    }
+}
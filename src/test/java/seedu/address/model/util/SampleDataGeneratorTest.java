@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.id.UniqueId;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.NoOverlapLessonList;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class SampleDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_negativeSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleDataGenerator(0).generate(-1, 0, 0));
+    }
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        assertEquals(new SampleDataGenerator(1).generate(50, 10, 10), new SampleDataGenerator(1).generate(50, 10, 10));
+        assertNotEquals(new SampleDataGenerator(1).generate(50, 10, 10),
+                new SampleDataGenerator(2).generate(50, 10, 10));
+    }
+
+    @Test
+    public void generate_validSizes_generatesConsistentAddressBook() {
+        AddressBook addressBook = new SampleDataGenerator(0).generate(200, 20, 30);
+        assertEquals(200, addressBook.getPersonList().size());
+        assertEquals(20, addressBook.getTaskList().size());
+        assertEquals(30, addressBook.getGroupList().size());
+
+        for (Group group : addressBook.getGroupList()) {
+            int groupSize = group.getAssignedPersonIds().size();
+            assertTrue(groupSize >= SampleDataGenerator.MIN_GROUP_SIZE
+                    && groupSize <= SampleDataGenerator.MAX_GROUP_SIZE);
+            for (Person member : addressBook.getPersonMapper().getFromUniqueIds(group.getAssignedPersonIds())) {
+                assertTrue(member.getAssignedGroupIds().contains(group.getId()));
+            }
+        }
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(person.getAssignedTaskIds(), person.getTasksCompletion().keySet());
+            for (UniqueId groupId : person.getAssignedGroupIds()) {
+                assertFalse(addressBook.getGroupMapper().getFromUniqueIds(Set.of(groupId)).isEmpty());
+            }
+            for (Lesson lesson : person.getLessons()) {
+                assertFalse(lesson.getTimeslot().getEndTime().isAfter(SampleDataGenerator.LATEST_LESSON_END));
+            }
+        }
+    }
+
+    @Test
+    public void generate_studentsInManyGroups_noLessonsOverlap() {
+        // about seven groups to each student
+        AddressBook addressBook = new SampleDataGenerator(0).generate(50, 0, 60);
+        for (Person person : addressBook.getPersonList()) {
+            List<Lesson> lessons = new ArrayList<>(person.getLessons());
+            for (Group group : addressBook.getGroupMapper().getFromUniqueIds(person.getAssignedGroupIds())) {
+                lessons.addAll(group.getLessons());
+            }
+            assertFalse(NoOverlapLessonList.doAnyLessonsOverlap(lessons), person.getName() + " has " + lessons);
+        }
+        assertTrue(addressBook.getGroupList().stream().anyMatch(group -> !group.getLessons().isEmpty()));
+    }
+
+    @Test
+    public void generate_savedAndRead_sameAddressBook() throws Exception {
+        AddressBook addressBook = new SampleDataGenerator(0).generate(100, 10, 20);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("sample.json"));
+        storage.saveAddressBook(addressBook);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedPerson;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TypicalObjects;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ExecutorService writer;
+    private LogicManager logic;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(TypicalObjects.getTypicalAddressBook(), new UserPrefs()), storage);
+        writer = Executors.newSingleThreadExecutor();
+        apiServer = new ApiServer(logic, writer, 0, 2);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+        writer.shutdown();
+    }
+
+    @Test
+    public void getPersons_returnsAllPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH);
+        assertEquals(200, response.statusCode());
+        assertEquals(logic.getAddressBook().getPersonList(), toPersons(response.body()));
+    }
+
+    @Test
+    public void getPersonDetails_validIndex_returnsPerson() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "/2");
+        assertEquals(200, response.statusCode());
+        Map<?, ?> details = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(logic.getAddressBook().getPersonList().get(1).getName().fullName,
+                ((Map<?, ?>) details.get("person")).get("name"));
+    }
+
+    @Test
+    public void getPersonDetails_invalidIndex_notFound() throws Exception {
+        for (String index : List.of("0", "8", "one")) {
+            HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "/" + index);
+            assertEquals(404, response.statusCode());
+            assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, getError(response));
+        }
+    }
+
+    @Test
+    public void getSchedule_returnsAllLessons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.SCHEDULE_PATH);
+        assertEquals(200, response.statusCode());
+        assertEquals(logic.getAddressBook().getSortedLessonsWithAttendees().size(),
+                JsonUtil.fromJsonString(response.body(), List.class).size());
+    }
+
+    @Test
+    public void get_unknownPath_notFound() throws Exception {
+        assertEquals(404, get("/api/bogus").statusCode());
+    }
+
+    @Test
+    public void postCommand_deleteCommand_readsSeeDeletion() throws Exception {
+        int personCount = logic.getAddressBook().getPersonList().size();
+        assertEquals(personCount, toPersons(get(ApiServer.PERSONS_PATH).body()).size());
+
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "student -d 1");
+        assertEquals(200, response.statusCode());
+        assertEquals(personCount - 1, toPersons(get(ApiServer.PERSONS_PATH).body()).size());
+    }
+
+    @Test
+    public void postCommand_listCommand_returnsFeedback() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "list");
+        assertEquals(200, response.statusCode());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, JsonUtil.fromJsonString(response.body(), Map.class).get("feedback"));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "bogus");
+        assertEquals(400, response.statusCode());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, getError(response));
+    }
+
+    @Test
+    public void request_missingOrWrongToken_unauthorized() throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(toUri(ApiServer.COMMANDS_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString("student -d 1"));
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_UNAUTHORIZED, getError(response));
+
+        request.header(ApiServer.AUTHORIZATION_HEADER, ApiServer.TOKEN_SCHEME + "not" + apiServer.getToken());
+        assertEquals(401, client.send(request.build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(TypicalObjects.getTypicalAddressBook().getPersonList().size(),
+                logic.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void request_withOrigin_forbidden() throws Exception {
+        HttpResponse<String> response = client.send(withToken(HttpRequest.newBuilder(toUri(ApiServer.PERSONS_PATH)))
+                .header("Origin", "http://example.com").GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_ORIGIN_NOT_ALLOWED, getError(response));
+    }
+
+    @Test
+    public void request_otherHost_forbidden() throws Exception {
+        assertEquals(403, getStatusWithHost("example.com:" + apiServer.getPort()));
+        assertEquals(200, getStatusWithHost("127.0.0.1:" + apiServer.getPort()));
+    }
+
+    @Test
+    public void request_wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+        assertEquals(405, post(ApiServer.PERSONS_PATH, "").statusCode());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(withToken(HttpRequest.newBuilder(toUri(path))).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return client.send(withToken(HttpRequest.newBuilder(toUri(path)))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder withToken(HttpRequest.Builder request) {
+        return request.header(ApiServer.AUTHORIZATION_HEADER, ApiServer.TOKEN_SCHEME + apiServer.getToken());
+    }
+
+    /**
+     * Sends a request for the students with {@code host} as its Host header, which {@code HttpClient} does not allow
+     * to be set, and returns the status of the response.
+     */
+    private int getStatusWithHost(String host) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), apiServer.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + ApiServer.PERSONS_PATH + " HTTP/1.1\r\n"
+                    + "Host: " + host + "\r\n"
+                    + ApiServer.AUTHORIZATION_HEADER + ": " + ApiServer.TOKEN_SCHEME + apiServer.getToken() + "\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            String statusLine = new String(in.readNBytes("HTTP/1.1 200".length()), StandardCharsets.US_ASCII);
+            return Integer.parseInt(statusLine.substring(statusLine.length() - 3));
+        }
+    }
+
+    private URI toUri(String path) {
+        return URI.create("http://localhost:" + apiServer.getPort() + path);
+    }
+
+    private static String getError(HttpResponse<String> response) throws IOException {
+        return (String) JsonUtil.fromJsonString(response.body(), Map.class).get("error");
+    }
+
+    private static List<Person> toPersons(String json) throws IOException {
+        JsonAdaptedPerson[] persons = JsonUtil.fromJsonString(json, JsonAdaptedPerson[].class);
+        return Arrays.stream(persons).map(person -> {
+            try {
+                return person.toModelType();
+            } catch (IllegalValueException e) {
+                throw new AssertionError(e);
+            }
+        }).collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,17 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +91,60 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        Path uncompressedFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(original);
+        new JsonAddressBookStorage(uncompressedFilePath).saveAddressBook(original);
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            assertTrue(in instanceof GZIPInputStream);
+        }
+        assertTrue(Files.size(filePath) < Files.size(uncompressedFilePath));
+
+        // compressed files are detected on read regardless of how the storage saves
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath, false).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_writesChecksumOfSavedFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        Path checksumFilePath = JsonAddressBookStorage.getChecksumFilePath(filePath);
+        assertTrue(FileUtil.isFileExists(checksumFilePath));
+        assertEquals(FileUtil.computeChecksum(filePath), FileUtil.readFromFile(checksumFilePath));
+    }
+
+    @Test
+    public void readAddressBook_unchangedSinceSave_skipsValidation() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        // an invalid name that still matches the recorded checksum is not checked again
+        String invalidContent = FileUtil.readFromFile(filePath).replace(ALICE.getName().fullName, "Al!ce");
+        FileUtil.writeToFile(filePath, invalidContent);
+        FileUtil.writeToFile(JsonAddressBookStorage.getChecksumFilePath(filePath), FileUtil.computeChecksum(filePath));
+
+        assertTrue(jsonAddressBookStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_editedSinceSave_validatesData() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        String invalidContent = FileUtil.readFromFile(filePath).replace(ALICE.getName().fullName, "Al!ce");
+        FileUtil.writeToFile(filePath, invalidContent);
+
+        assertThrows(DataConversionException.class, jsonAddressBookStorage::readAddressBook);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonDirectoryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JsonDirectoryAddressBookStorage(testFolder).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingManifest_emptyResult() throws Exception {
+        assertFalse(new JsonDirectoryAddressBookStorage(testFolder.resolve("NonExistentFolder"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_missingRecord_exceptionThrown() throws Exception {
+        Path directoryPath = testFolder.resolve("TempAddressBook");
+        JsonDirectoryAddressBookStorage storage = new JsonDirectoryAddressBookStorage(directoryPath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.delete(getPersonRecordPath(directoryPath, ALICE));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directoryPath = testFolder.resolve("TempAddressBook");
+        AddressBook original = getTypicalAddressBook();
+        JsonDirectoryAddressBookStorage storage = new JsonDirectoryAddressBookStorage(directoryPath);
+
+        // Save in new directory and read back
+        storage.saveAddressBook(original, directoryPath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(directoryPath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing directory, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = new JsonDirectoryAddressBookStorage(directoryPath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(Files.exists(getPersonRecordPath(directoryPath, ALICE)));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPerson_recordNotRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("TempAddressBook");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonDirectoryAddressBookStorage storage = new JsonDirectoryAddressBookStorage(directoryPath);
+        storage.saveAddressBook(addressBook);
+
+        // records of persons that are the same objects as in the last save are left alone
+        Files.delete(getPersonRecordPath(directoryPath, ALICE));
+        Files.delete(getPersonRecordPath(directoryPath, BENSON));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(getPersonRecordPath(directoryPath, ALICE)));
+        assertTrue(Files.exists(getPersonRecordPath(directoryPath, editedBenson)));
+    }
+
+    @Test
+    public void saveAddressBook_differentDirectory_allRecordsWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonDirectoryAddressBookStorage storage = new JsonDirectoryAddressBookStorage(testFolder.resolve("First"));
+        storage.saveAddressBook(addressBook);
+
+        Path otherDirectoryPath = testFolder.resolve("Second");
+        storage.saveAddressBook(addressBook, otherDirectoryPath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(otherDirectoryPath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JsonDirectoryAddressBookStorage(testFolder).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JsonDirectoryAddressBookStorage(testFolder).saveAddressBook(new AddressBook(), null));
+    }
+
+    private Path getPersonRecordPath(Path directoryPath, Person person) {
+        return JsonDirectoryAddressBookStorage.getRecordFilePath(
+                directoryPath.resolve(JsonDirectoryAddressBookStorage.PERSONS_DIRECTORY_NAME), person.getId());
+    }
+
+}
@@ -2,15 +2,21 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGroups.GROUP_1;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalObjects;
 
 public class JsonSerializableAddressBookTest {
@@ -21,6 +27,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
     private static final Path INVALID_TASK_FILE = TEST_DATA_FOLDER.resolve("invalidTaskAddressBook.json");
     private static final Path DUPLICATE_TASK_FILE = TEST_DATA_FOLDER.resolve("duplicateTaskAddressBook.json");
+    private static final Path ID_TABLE_FILE = TEST_DATA_FOLDER.resolve("idTableAddressBook.json");
+    private static final Path INVALID_HANDLE_FILE = TEST_DATA_FOLDER.resolve("invalidHandleAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -70,4 +78,42 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_idTableFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(ID_TABLE_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(TypicalObjects.getTypicalAddressBook(), dataFromFile.toModelType());
+        assertEquals(TypicalObjects.getTypicalAddressBook(), dataFromFile.toTrustedModelType());
+    }
+
+    @Test
+    public void toModelType_invalidHandleFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_HANDLE_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedInIdTableLayout_success() throws Exception {
+        AddressBook original = TypicalObjects.getTypicalAddressBook();
+        Task task = original.getTaskList().get(0);
+        String taskId = task.getId().getUuid().toString();
+        Person assignedHoon = new PersonBuilder(HOON).withAssignedTaskIds(taskId)
+                .withTasksCompletion(Map.of(task.getId(), true))
+                .withAssignedGroupIds(GROUP_1.getId().getUuid().toString()).build();
+        original.addGroup(GROUP_1);
+        original.addPerson(assignedHoon);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original, true));
+        // every id is only written once, in the id table
+        assertEquals(json.indexOf(taskId), json.lastIndexOf(taskId));
+
+        AddressBook readBack = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(original, readBack);
+        Person readBackHoon = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        assertEquals(assignedHoon.getAssignedTaskIds(), readBackHoon.getAssignedTaskIds());
+        assertEquals(assignedHoon.getAssignedGroupIds(), readBackHoon.getAssignedGroupIds());
+        assertEquals(assignedHoon.getTasksCompletion(), readBackHoon.getTasksCompletion());
+    }
+
 }
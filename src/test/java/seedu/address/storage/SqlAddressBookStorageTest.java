@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGroups.GROUP_1;
+import static seedu.address.testutil.TypicalGroups.GROUP_2;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE_WITH_LESSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalObjects;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SqlAddressBookStorage(testFolder).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingDatabase_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(testFolder.resolve("NonExistentDatabase")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_invalidPerson_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        executeUpdate(filePath, "UPDATE persons SET name = 'Al!ce' WHERE id = ?", ALICE);
+
+        assertThrows(DataConversionException.class, () -> new SqlAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook");
+        AddressBook original = TypicalObjects.getTypicalAddressBook();
+        original.addGroup(GROUP_1);
+        original.addGroup(GROUP_2);
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+
+        // Save in new database and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing database, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE_WITH_LESSON);
+        original.removeGroup(GROUP_1);
+        storage.saveAddressBook(original);
+        readBack = new SqlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void getDataSize_savedDatabase_sizeOfDatabaseFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        assertEquals(0, storage.getDataSize());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(storage.getDataSize() > 0);
+        assertEquals(Files.size(SqlAddressBookStorage.getDatabaseFilePath(filePath)), storage.getDataSize());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPerson_rowsNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook");
+        AddressBook addressBook = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        // rows of persons that are the same objects as in the last save are left alone
+        executeUpdate(filePath, "DELETE FROM tags WHERE owner_id = ?", ALICE);
+        executeUpdate(filePath, "DELETE FROM tags WHERE owner_id = ?", BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new SqlAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(readBack.getPersonList().get(0).getTags().isEmpty());
+        assertEquals(editedBenson, readBack.getPersonList().get(1));
+    }
+
+    @Test
+    public void saveAddressBook_differentDatabase_allRowsWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("First"));
+        storage.saveAddressBook(addressBook);
+
+        Path otherFilePath = testFolder.resolve("Second");
+        storage.saveAddressBook(addressBook, otherFilePath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SqlAddressBookStorage(testFolder).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new SqlAddressBookStorage(testFolder).saveAddressBook(new AddressBook(), null));
+    }
+
+    /**
+     * Executes {@code sql}, which takes the id of {@code person} as its only parameter, on the database at
+     * {@code filePath}.
+     */
+    private void executeUpdate(Path filePath, String sql, Person person) throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:" + filePath.toAbsolutePath());
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, person.getId().getUuid().toString());
+            statement.executeUpdate();
+        }
+    }
+
+}
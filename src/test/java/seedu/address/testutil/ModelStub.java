@@ -4,12 +4,14 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -69,11 +71,61 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void beginBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void endBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void publishAddressBookSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addPerson(Person person) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -169,6 +221,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void refreshLessonWithAttendeesList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableValue<ViewingType> getViewingType() {
         throw new AssertionError("This method should not be called.");